@@ -6,9 +6,12 @@ export {
   deleteItem,
   deleteList,
   deleteUser,
+  getChanges,
+  getItems,
   getListById,
   getLists,
   getUser,
+  moveItem,
   type Options,
   reorderItems,
   updateItem,
@@ -38,31 +41,54 @@ export type {
   DeleteUserData,
   DeleteUserResponse,
   DeleteUserResponses,
+  GetChangesData,
+  GetChangesError,
+  GetChangesErrors,
+  GetChangesResponse,
+  GetChangesResponses,
+  GetItemsData,
+  GetItemsError,
+  GetItemsErrors,
+  GetItemsResponse,
+  GetItemsResponses,
   GetListByIdData,
   GetListByIdError,
   GetListByIdErrors,
   GetListByIdResponse,
   GetListByIdResponses,
   GetListsData,
+  GetListsError,
+  GetListsErrors,
   GetListsResponse,
   GetListsResponses,
   GetUserData,
   GetUserResponse,
   GetUserResponses,
+  ItemChangeDto,
   ItemCreateDto,
+  ItemMoveDto,
+  ItemPageDto,
   ItemReorderDto,
   ItemSummaryDto,
   ItemUpdateDto,
+  ListChangeDto,
   ListCreateDto,
   ListResponseDto,
   ListSummaryDto,
+  ListSummaryPageDto,
   ListUpdateDto,
+  MoveItemData,
+  MoveItemError,
+  MoveItemErrors,
+  MoveItemResponse,
+  MoveItemResponses,
   ProblemDetail,
   ReorderItemsData,
   ReorderItemsError,
   ReorderItemsErrors,
   ReorderItemsResponse,
   ReorderItemsResponses,
+  SyncDto,
   UpdateItemData,
   UpdateItemError,
   UpdateItemErrors,
@@ -2,7 +2,7 @@
 
 import type { Client, Options as Options2, TDataShape } from './client';
 import { client } from './client.gen';
-import type { CreateItemData, CreateItemErrors, CreateItemResponses, CreateListData, CreateListErrors, CreateListResponses, DeleteItemData, DeleteItemErrors, DeleteItemResponses, DeleteListData, DeleteListErrors, DeleteListResponses, DeleteUserData, DeleteUserResponses, GetListByIdData, GetListByIdErrors, GetListByIdResponses, GetListsData, GetListsResponses, GetUserData, GetUserResponses, ReorderItemsData, ReorderItemsErrors, ReorderItemsResponses, UpdateItemData, UpdateItemErrors, UpdateItemResponses, UpdateListData, UpdateListErrors, UpdateListResponses, UpdateUserData, UpdateUserErrors, UpdateUserResponses } from './types.gen';
+import type { CreateItemData, CreateItemErrors, CreateItemResponses, CreateListData, CreateListErrors, CreateListResponses, DeleteItemData, DeleteItemErrors, DeleteItemResponses, DeleteListData, DeleteListErrors, DeleteListResponses, DeleteUserData, DeleteUserResponses, GetChangesData, GetChangesErrors, GetChangesResponses, GetItemsData, GetItemsErrors, GetItemsResponses, GetListByIdData, GetListByIdErrors, GetListByIdResponses, GetListsData, GetListsErrors, GetListsResponses, GetUserData, GetUserResponses, ReorderItemsData, ReorderItemsErrors, ReorderItemsResponses, UpdateItemData, UpdateItemErrors, UpdateItemResponses, UpdateListData, UpdateListErrors, UpdateListResponses, UpdateUserData, UpdateUserErrors, UpdateUserResponses } from './types.gen';
 
 export type Options<TData extends TDataShape = TDataShape, ThrowOnError extends boolean = boolean> = Options2<TData, ThrowOnError> & {
     /**
@@ -21,9 +21,9 @@ export type Options<TData extends TDataShape = TDataShape, ThrowOnError extends
 /**
  * Get all lists
  *
- * Retrieves all lists of a specific user
+ * Retrieves summaries of all lists of a specific user
  */
-export const getLists = <ThrowOnError extends boolean = false>(options?: Options<GetListsData, ThrowOnError>) => (options?.client ?? client).get<GetListsResponses, unknown, ThrowOnError>({ url: '/api/v1/lists', ...options });
+export const getLists = <ThrowOnError extends boolean = false>(options?: Options<GetListsData, ThrowOnError>) => (options?.client ?? client).get<GetListsResponses, GetListsErrors, ThrowOnError>({ url: '/api/v1/lists', ...options });
 
 /**
  * Create a new list
@@ -39,6 +39,13 @@ export const createList = <ThrowOnError extends boolean = false>(options: Option
     }
 });
 
+/**
+ * Get items of a list
+ *
+ * Retrieves the items of a list in order, one window at a time
+ */
+export const getItems = <ThrowOnError extends boolean = false>(options: Options<GetItemsData, ThrowOnError>) => (options.client ?? client).get<GetItemsResponses, GetItemsErrors, ThrowOnError>({ url: '/api/v1/lists/{listId}/items', ...options });
+
 /**
  * Create a new item
  *
@@ -67,6 +74,13 @@ export const deleteUser = <ThrowOnError extends boolean = false>(options?: Optio
  */
 export const getUser = <ThrowOnError extends boolean = false>(options?: Options<GetUserData, ThrowOnError>) => (options?.client ?? client).get<GetUserResponses, unknown, ThrowOnError>({ url: '/api/v1/user', ...options });
 
+/**
+ * Get changes since the last sync
+ *
+ * Retrieves the lists and items that were created, updated or deleted since the cursor of the previous sync
+ */
+export const getChanges = <ThrowOnError extends boolean = false>(options?: Options<GetChangesData, ThrowOnError>) => (options?.client ?? client).get<GetChangesResponses, GetChangesErrors, ThrowOnError>({ url: '/api/v1/sync', ...options });
+
 /**
  * Update current user
  *
@@ -116,6 +130,20 @@ export const reorderItems = <ThrowOnError extends boolean = false>(options: Opti
     }
 });
 
+/**
+ * Move an item in a list
+ *
+ * Moves a single item before or after another item of the list
+ */
+export const moveItem = <ThrowOnError extends boolean = false>(options: Options<MoveItemData, ThrowOnError>) => (options.client ?? client).patch<MoveItemResponses, MoveItemErrors, ThrowOnError>({
+    url: '/api/v1/lists/{listId}/items/order/move',
+    ...options,
+    headers: {
+        'Content-Type': 'application/json',
+        ...options.headers
+    }
+});
+
 /**
  * Delete a list
  *
@@ -42,6 +42,15 @@ export type ItemReorderDto = {
     itemOrder?: Array<string>;
 };
 
+/**
+ * Moves a single item relative to its new neighbours.
+ */
+export type ItemMoveDto = {
+    itemId: string;
+    beforeId?: string;
+    afterId?: string;
+};
+
 export type ListUpdateDto = {
     title?: string;
     description?: string;
@@ -50,9 +59,49 @@ export type ListUpdateDto = {
 export type ListSummaryDto = {
     id?: string;
     title?: string;
+    description?: string;
+    updatedAt?: string;
     itemCount?: number;
 };
 
+export type ListSummaryPageDto = {
+    items?: Array<ListSummaryDto>;
+    nextCursor?: string;
+};
+
+export type ItemPageDto = {
+    items?: Array<ItemSummaryDto>;
+    nextAfterPosition?: number;
+};
+
+export type ListChangeDto = {
+    id?: string;
+    title?: string;
+    description?: string;
+    updatedAt?: string;
+    version?: number;
+    deleted?: boolean;
+};
+
+export type ItemChangeDto = {
+    id?: string;
+    listId?: string;
+    title?: string;
+    notes?: string;
+    position?: number;
+    imagePath?: string;
+    updatedAt?: string;
+    version?: number;
+    deleted?: boolean;
+};
+
+export type SyncDto = {
+    lists?: Array<ListChangeDto>;
+    items?: Array<ItemChangeDto>;
+    nextCursor?: string;
+    hasMore?: boolean;
+};
+
 export type UserResponseDto = {
     id?: string;
     name?: string;
@@ -90,15 +139,33 @@ export type UserSummaryDto = {
 export type GetListsData = {
     body?: never;
     path?: never;
-    query?: never;
+    query?: {
+        /**
+         * Cursor returned with the previous page, omitted for the first page
+         */
+        cursor?: string;
+        /**
+         * Maximum amount of lists to return
+         */
+        limit?: number;
+    };
     url: '/api/v1/lists';
 };
 
+export type GetListsErrors = {
+    /**
+     * Invalid cursor or limit
+     */
+    400: ProblemDetail;
+};
+
+export type GetListsError = GetListsErrors[keyof GetListsErrors];
+
 export type GetListsResponses = {
     /**
      * Lists retrieved successfully
      */
-    200: Array<ListResponseDto>;
+    200: ListSummaryPageDto;
 };
 
 export type GetListsResponse = GetListsResponses[keyof GetListsResponses];
@@ -128,6 +195,53 @@ export type CreateListResponses = {
 
 export type CreateListResponse = CreateListResponses[keyof CreateListResponses];
 
+export type GetItemsData = {
+    body?: never;
+    path: {
+        /**
+         * ID of the list to get items of
+         */
+        listId: string;
+    };
+    query?: {
+        /**
+         * Position to continue after, omitted for the start of the list
+         */
+        afterPosition?: number;
+        /**
+         * Maximum amount of items to return
+         */
+        limit?: number;
+        /**
+         * Fields to return, separated by commas
+         */
+        fields?: string;
+    };
+    url: '/api/v1/lists/{listId}/items';
+};
+
+export type GetItemsErrors = {
+    /**
+     * Invalid limit
+     */
+    400: ProblemDetail;
+    /**
+     * Forbidden
+     */
+    403: unknown;
+};
+
+export type GetItemsError = GetItemsErrors[keyof GetItemsErrors];
+
+export type GetItemsResponses = {
+    /**
+     * Items retrieved successfully
+     */
+    200: ItemPageDto;
+};
+
+export type GetItemsResponse = GetItemsResponses[keyof GetItemsResponses];
+
 export type CreateItemData = {
     body: ItemCreateDto;
     path: {
@@ -190,6 +304,40 @@ export type GetUserResponses = {
 
 export type GetUserResponse = GetUserResponses[keyof GetUserResponses];
 
+export type GetChangesData = {
+    body?: never;
+    path?: never;
+    query?: {
+        /**
+         * Cursor of the previous sync, omitted for the initial sync
+         */
+        since?: string;
+        /**
+         * Maximum amount of lists and of items to return
+         */
+        limit?: number;
+    };
+    url: '/api/v1/sync';
+};
+
+export type GetChangesErrors = {
+    /**
+     * Invalid cursor or limit
+     */
+    400: ProblemDetail;
+};
+
+export type GetChangesError = GetChangesErrors[keyof GetChangesErrors];
+
+export type GetChangesResponses = {
+    /**
+     * Changes retrieved successfully
+     */
+    200: SyncDto;
+};
+
+export type GetChangesResponse = GetChangesResponses[keyof GetChangesResponses];
+
 export type UpdateUserData = {
     body: UserUpdateDto;
     path?: never;
@@ -331,6 +479,44 @@ export type ReorderItemsResponses = {
 
 export type ReorderItemsResponse = ReorderItemsResponses[keyof ReorderItemsResponses];
 
+export type MoveItemData = {
+    body: ItemMoveDto;
+    path: {
+        /**
+         * ID of the list to move the item in
+         */
+        listId: string;
+    };
+    query?: never;
+    url: '/api/v1/lists/{listId}/items/order/move';
+};
+
+export type MoveItemErrors = {
+    /**
+     * Invalid move data
+     */
+    400: ProblemDetail;
+    /**
+     * Forbidden
+     */
+    403: unknown;
+    /**
+     * List or item not found
+     */
+    404: unknown;
+};
+
+export type MoveItemError = MoveItemErrors[keyof MoveItemErrors];
+
+export type MoveItemResponses = {
+    /**
+     * Item moved successfully
+     */
+    204: void;
+};
+
+export type MoveItemResponse = MoveItemResponses[keyof MoveItemResponses];
+
 export type DeleteListData = {
     body?: never;
     path: {
@@ -368,15 +554,16 @@ export type GetListByIdData = {
          */
         id: string;
     };
-    query?: never;
+    query?: {
+        /**
+         * Fields to return, separated by commas
+         */
+        fields?: string;
+    };
     url: '/api/v1/lists/{id}';
 };
 
 export type GetListByIdErrors = {
-    /**
-     * Forbidden
-     */
-    403: ListResponseDto;
     /**
      * List not found
      */
@@ -25,7 +25,7 @@ import {
   verticalListSortingStrategy,
   arrayMove,
 } from '@dnd-kit/sortable';
-import { useReorderItems } from '../hooks/useReorderItems';
+import { useMoveItem } from '../hooks/useMoveItem';
 import ImageItemModule from './ImageItemModule';
 
 type ViewMode = 'text' | 'image';
@@ -36,7 +36,7 @@ export default function ListModule() {
   const { mutate: updateItem } = useUpdateItem();
   const { mutate: deleteItem } = useDeleteItem();
   const { mutate: createItem } = useCreateItem();
-  const { mutate: reorderItems } = useReorderItems();
+  const { mutate: moveItem } = useMoveItem();
   const [dialogOpen, setDialogOpen] = useState(false);
   const [dialogMode, setDialogMode] = useState<'create' | 'update'>('create');
   const [selectedItem, setSelectedItem] = useState<ItemSummaryDto | null>(null);
@@ -120,7 +120,14 @@ export default function ListModule() {
       const newIndex = prev.findIndex((i) => i.id === over.id);
       const newItems = arrayMove(prev, oldIndex, newIndex);
 
-      reorderItems({ listId, dto: { itemOrder: newItems.map((i) => i.id!) } });
+      moveItem({
+        listId,
+        dto: {
+          itemId: active.id as string,
+          beforeId: newItems[newIndex + 1]?.id,
+          afterId: newItems[newIndex - 1]?.id,
+        },
+      });
 
       return newItems;
     });
@@ -0,0 +1,22 @@
+import { useMutation, useQueryClient } from '@tanstack/react-query';
+import { moveItem, type ItemMoveDto } from '../../../api';
+import { apiClient } from '../../../lib/apiClient';
+
+export const useMoveItem = () => {
+  const queryClient = useQueryClient();
+
+  return useMutation({
+    mutationFn: ({ listId, dto }: { listId: string; dto: ItemMoveDto }) =>
+      moveItem({
+        client: apiClient,
+        throwOnError: true,
+        path: {
+          listId,
+        },
+        body: dto,
+      }),
+    onSuccess: () => {
+      queryClient.invalidateQueries({ queryKey: ['list'] });
+    },
+  });
+};
@@ -1,6 +1,6 @@
 import {
   type ListCreateDto,
-  type ListResponseDto,
+  type ListSummaryDto,
   type ListUpdateDto,
 } from '../../../api';
 import { useGetLists } from '../hooks/useGetLists';
@@ -14,13 +14,20 @@ import { useUpdateList } from '../hooks/useUpdateList';
 import { ListDialog } from './ListDialog';
 
 export default function AllListsModule() {
-  const { isLoading, isError, data } = useGetLists();
+  const {
+    isLoading,
+    isError,
+    data,
+    hasNextPage,
+    fetchNextPage,
+    isFetchingNextPage,
+  } = useGetLists();
   const { mutate: deleteList } = useDeleteList();
   const { mutate: createList } = useCreateList();
   const { mutate: updateList } = useUpdateList();
   const [dialogOpen, setDialogOpen] = useState(false);
   const [dialogMode, setDialogMode] = useState<'create' | 'update'>('create');
-  const [selectedList, setSelectedList] = useState<ListResponseDto | null>(
+  const [selectedList, setSelectedList] = useState<ListSummaryDto | null>(
     null
   );
 
@@ -28,7 +35,7 @@ export default function AllListsModule() {
    * Handles opening the delete dialog.
    * @param list The information of the list to be deleted.
    */
-  const handleDelete = (list: ListResponseDto) => {
+  const handleDelete = (list: ListSummaryDto) => {
     deleteList({ id: list.id! });
   };
 
@@ -45,7 +52,7 @@ export default function AllListsModule() {
    * Handles opening the update dialog.
    * @param list The information of the list to be updated.
    */
-  const handleOpenUpdate = (list: ListResponseDto) => {
+  const handleOpenUpdate = (list: ListSummaryDto) => {
     setSelectedList(list);
     setDialogMode('update');
     setDialogOpen(true);
@@ -106,14 +113,25 @@ export default function AllListsModule() {
               gap: 2,
             }}
           >
-            {data?.map((list) => (
-              <ListEntry
-                key={list.id}
-                list={list}
-                onDelete={handleDelete}
-                onUpdate={handleOpenUpdate}
-              />
-            ))}
+            {data.pages
+              .flatMap((page) => page.items ?? [])
+              .map((list) => (
+                <ListEntry
+                  key={list.id}
+                  list={list}
+                  onDelete={handleDelete}
+                  onUpdate={handleOpenUpdate}
+                />
+              ))}
+            {hasNextPage && (
+              <Button
+                variant="outlined"
+                onClick={() => fetchNextPage()}
+                disabled={isFetchingNextPage}
+              >
+                {isFetchingNextPage ? 'Loading...' : 'Load more'}
+              </Button>
+            )}
           </Box>
         ) : (
           'Loading content...'
@@ -9,12 +9,12 @@ import {
 } from '@mui/material';
 import DeleteIcon from '@mui/icons-material/Delete';
 import EditIcon from '@mui/icons-material/Edit';
-import type { ListResponseDto, ListUpdateDto } from '../../../api';
+import type { ListSummaryDto, ListUpdateDto } from '../../../api';
 import { Link } from '@tanstack/react-router';
 
 interface ListEntryProps {
-  list: ListResponseDto;
-  onDelete: (list: ListResponseDto) => void;
+  list: ListSummaryDto;
+  onDelete: (list: ListSummaryDto) => void;
   onUpdate: (list: ListUpdateDto) => void;
 }
 
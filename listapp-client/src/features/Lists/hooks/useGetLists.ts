@@ -1,16 +1,19 @@
-import { useQuery } from '@tanstack/react-query';
+import { useInfiniteQuery } from '@tanstack/react-query';
 import { getLists } from '../../../api';
 import { apiClient } from '../../../lib/apiClient';
 
 export const useGetLists = () => {
-  return useQuery({
+  return useInfiniteQuery({
     queryKey: ['lists'],
-    queryFn: async () => {
+    queryFn: async ({ pageParam }) => {
       const response = await getLists({
         client: apiClient,
+        query: pageParam ? { cursor: pageParam } : undefined,
         throwOnError: true,
       });
       return response.data;
     },
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
   });
 };
@@ -0,0 +1,31 @@
+package com.example.listapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.listapp.security.OwnershipInterceptor;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * Interceptor enforcing list and item ownership.
+     */
+    private final OwnershipInterceptor ownershipInterceptor;
+
+    /**
+     * Registers the ownership checks for all API handlers.
+     * @param registry The registry to add the interceptors to.
+     */
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(ownershipInterceptor)
+            .addPathPatterns("/api/**");
+    }
+}
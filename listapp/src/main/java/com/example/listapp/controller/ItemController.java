@@ -3,22 +3,31 @@ package com.example.listapp.controller;
 import java.net.URI;
 import java.util.UUID;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.example.listapp.dto.item.ItemCreateDto;
+import com.example.listapp.dto.item.ItemFieldsPageDto;
+import com.example.listapp.dto.item.ItemMoveDto;
+import com.example.listapp.dto.item.ItemPageDto;
 import com.example.listapp.dto.item.ItemReorderDto;
+import com.example.listapp.dto.item.ItemTransferDto;
 import com.example.listapp.dto.item.ItemUpdateDto;
+import com.example.listapp.security.RequiresOwnership;
 import com.example.listapp.service.ItemService;
+import com.example.listapp.service.ReorderCoalescer;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.swagger.v3.oas.annotations.Operation;
@@ -43,12 +52,94 @@ public class ItemController {
      */
     private final ItemService itemService;
 
+    /**
+     * Stage collapsing bursts of reorders for the same list.
+     */
+    private final ReorderCoalescer reorderCoalescer;
+
     /**
      * Constructor for the ItemController.
      * @param itemServiceParam service responsible for item business logic
+     * @param reorderCoalescerParam stage collapsing bursts of reorders
      */
-    public ItemController(final ItemService itemServiceParam) {
+    public ItemController(
+        final ItemService itemServiceParam,
+        final ReorderCoalescer reorderCoalescerParam) {
         this.itemService = itemServiceParam;
+        this.reorderCoalescer = reorderCoalescerParam;
+    }
+
+    /**
+     * Retrieves a window of consecutive items of a specific list.
+     * @param listId The id of the List to retrieve items for.
+     * @param afterPosition The position to continue after.
+     * @param limit The maximum amount of items to return.
+     * @return An API response representing the result of the call.
+     */
+    @Operation(summary = "Get items of a list", description =
+        "Retrieves the items of a list in order, one window at a time")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description =
+            "Items retrieved successfully",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ItemPageDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid limit",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ProblemDetail.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping
+    @RequiresOwnership
+    public ResponseEntity<ItemPageDto> getItems(
+            final @Parameter(description = "ID of the list to get items of")
+            @PathVariable UUID listId,
+            final @Parameter(description = "Position to continue after, "
+                + "omitted for the start of the list")
+            @RequestParam(required = false) Long afterPosition,
+            final @Parameter(description = "Maximum amount of items to return")
+            @RequestParam(defaultValue = "100") int limit) {
+        ItemPageDto page = itemService.getItems(listId, afterPosition, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Retrieves a window of items of a specific list, limited to selected
+     * fields.
+     * @param listId The id of the List to retrieve items for.
+     * @param afterPosition The position to continue after.
+     * @param limit The maximum amount of items to return.
+     * @param fields The names of the fields to return.
+     * @return An API response representing the result of the call.
+     */
+    @Operation(summary = "Get selected fields of the items of a list",
+        description = "Retrieves only the requested fields of the items of "
+        + "a list in order, one window at a time")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description =
+            "Items retrieved successfully",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ItemFieldsPageDto.class))),
+        @ApiResponse(responseCode = "400", description =
+            "Invalid limit or unknown field",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ProblemDetail.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping(params = "fields")
+    @RequiresOwnership
+    public ResponseEntity<ItemFieldsPageDto> getItemFields(
+            final @Parameter(description = "ID of the list to get items of")
+            @PathVariable UUID listId,
+            final @Parameter(description = "Position to continue after, "
+                + "omitted for the start of the list")
+            @RequestParam(required = false) Long afterPosition,
+            final @Parameter(description = "Maximum amount of items to return")
+            @RequestParam(defaultValue = "100") int limit,
+            final @Parameter(description = "Fields to return, separated by "
+                + "commas") @RequestParam String fields) {
+        ItemFieldsPageDto page = itemService.getItemFields(
+            listId, afterPosition, limit, fields);
+        return ResponseEntity.ok(page);
     }
 
     /**
@@ -69,7 +160,7 @@ public class ItemController {
                 schema = @Schema(implementation = ProblemDetail.class))),
     })
     @PostMapping
-    @PreAuthorize("@itemSecurity.canAccessList(#listId)")
+    @RequiresOwnership
     public ResponseEntity<UUID> createItem(
             final @Parameter(description = "ID of the list to add the item to")
             @PathVariable UUID listId,
@@ -105,7 +196,7 @@ public class ItemController {
     })
     @PatchMapping("/{id}")
     @ResponseBody
-    @PreAuthorize("@itemSecurity.canAccessItem(#listId, #id)")
+    @RequiresOwnership(item = "id")
     public ResponseEntity<UUID> updateItem(
             final @Parameter(description = "ID of the list containing the item")
             @PathVariable UUID listId,
@@ -134,14 +225,169 @@ public class ItemController {
         @ApiResponse(responseCode = "403", description = "Forbidden"),
         @ApiResponse(responseCode = "404", description = "List not found")
     })
-    @PatchMapping("/order")
+    @PatchMapping(value = "/order",
+        consumes = MediaType.APPLICATION_JSON_VALUE)
     @ResponseBody
-    @PreAuthorize("@itemSecurity.canAccessList(#listId)")
+    @RequiresOwnership
     public ResponseEntity<Void> reorderItems(
             final @Parameter(description = "ID of the list to reorder items in")
             @PathVariable UUID listId,
             final @Valid @RequestBody ItemReorderDto dto) {
-        itemService.reorderItems(listId, dto);
+        reorderCoalescer.submit(listId, dto);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Reorders the items in a specific list from a binary payload.
+     * @param listId The id of the List to reorder items for.
+     * @param itemOrder The IDs of all items in their new order, packed as
+     *                  consecutive 16-byte big-endian values.
+     * @return An API response representing the result of the call.
+     */
+    @Operation(summary = "Reorder items in a list from packed IDs",
+        description = "Reorder all items within the specified list, sending "
+            + "the item IDs as consecutive 16-byte values")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description =
+            "Items reordered successfully"),
+        @ApiResponse(responseCode = "400", description =
+            "Invalid reorder data",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ProblemDetail.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden"),
+        @ApiResponse(responseCode = "404", description = "List not found")
+    })
+    @PatchMapping(value = "/order",
+        consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @ResponseBody
+    @RequiresOwnership
+    public ResponseEntity<Void> reorderItemsPacked(
+            final @Parameter(description = "ID of the list to reorder items in")
+            @PathVariable UUID listId,
+            final @RequestBody byte[] itemOrder) {
+        reorderCoalescer.submit(listId, itemOrder);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Moves a single item within a specific list.
+     * @param listId The id of the List to move the item in.
+     * @param dto The request body containing the item and its neighbours.
+     * @return An API response representing the result of the call.
+     */
+    @Operation(summary = "Move an item in a list", description =
+        "Moves a single item before or after another item of the list")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description =
+            "Item moved successfully"),
+        @ApiResponse(responseCode = "400", description =
+            "Invalid move data",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ProblemDetail.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden"),
+        @ApiResponse(responseCode = "404", description =
+            "List or item not found")
+    })
+    @PatchMapping("/order/move")
+    @ResponseBody
+    @RequiresOwnership
+    public ResponseEntity<Void> moveItem(
+            final @Parameter(description = "ID of the list to move the item in")
+            @PathVariable UUID listId,
+            final @Valid @RequestBody ItemMoveDto dto) {
+        itemService.moveItem(listId, dto);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Sorts the items in a specific list on the server.
+     * @param listId The id of the List to sort items for.
+     * @param by The field to sort the items by.
+     * @param dir The direction to sort the items in.
+     * @return An API response representing the result of the call.
+     */
+    @Operation(summary = "Sort items in a list", description =
+        "Sorts all items within the specified list by title or creation date")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description =
+            "Items sorted successfully"),
+        @ApiResponse(responseCode = "400", description =
+            "Invalid sort parameters",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ProblemDetail.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden"),
+        @ApiResponse(responseCode = "404", description = "List not found")
+    })
+    @PostMapping("/order:sort")
+    @ResponseBody
+    @RequiresOwnership
+    public ResponseEntity<Void> sortItems(
+            final @Parameter(description = "ID of the list to sort items in")
+            @PathVariable UUID listId,
+            final @Parameter(description = "Field to sort by, title or "
+                + "createdAt") @RequestParam String by,
+            final @Parameter(description = "Direction to sort in, asc or desc")
+            @RequestParam(defaultValue = "asc") String dir) {
+        itemService.sortItems(listId, by, dir);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Shuffles the items in a specific list on the server.
+     * @param listId The id of the List to shuffle items for.
+     * @return An API response representing the result of the call.
+     */
+    @Operation(summary = "Shuffle items in a list", description =
+        "Puts all items within the specified list into a random order")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description =
+            "Items shuffled successfully"),
+        @ApiResponse(responseCode = "403", description = "Forbidden"),
+        @ApiResponse(responseCode = "404", description = "List not found")
+    })
+    @PostMapping("/order:shuffle")
+    @ResponseBody
+    @RequiresOwnership
+    public ResponseEntity<Void> shuffleItems(
+            final @Parameter(description = "ID of the list to shuffle items in")
+            @PathVariable UUID listId) {
+        itemService.shuffleItems(listId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Moves items from a specific list into another list.
+     * The source list is checked by the OwnershipInterceptor. The target
+     * list comes from the request body, which is only read after the
+     * interceptors ran, so it is checked by the method security expression
+     * instead.
+     * @param listId The id of the List the items belong to.
+     * @param dto The request body containing the items and their target.
+     * @return An API response representing the result of the call.
+     */
+    @Operation(summary = "Move items to another list", description =
+        "Moves items into another list at the given index, keeping their "
+        + "identity and history")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description =
+            "Items moved successfully"),
+        @ApiResponse(responseCode = "400", description =
+            "Invalid transfer data",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ProblemDetail.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden"),
+        @ApiResponse(responseCode = "404", description = "List not found")
+    })
+    @PostMapping("/transfer")
+    @ResponseBody
+    @RequiresOwnership
+    @PreAuthorize("@itemSecurity.canAccessList(#dto.targetListId())")
+    public ResponseEntity<Void> moveItems(
+            final @Parameter(description = "ID of the list to move items from")
+            @PathVariable UUID listId,
+            final @Valid @RequestBody ItemTransferDto dto) {
+        itemService.moveItems(
+            listId, dto.targetListId(), dto.itemIds(), dto.targetIndex());
         return ResponseEntity.noContent().build();
     }
 
@@ -163,7 +409,7 @@ public class ItemController {
     })
     @DeleteMapping("/{id}")
     @ResponseBody
-    @PreAuthorize("@itemSecurity.canAccessItem(#listId, #id)")
+    @RequiresOwnership(item = "id")
     public ResponseEntity<Void> deleteItem(
             final @Parameter(description = "ID of the list containing the item")
             @PathVariable UUID listId,
@@ -1,12 +1,12 @@
 package com.example.listapp.controller;
 
 import java.net.URI;
-import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -14,18 +14,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.example.listapp.dto.list.ListCreateDto;
 import com.example.listapp.dto.list.ListResponseDto;
+import com.example.listapp.dto.list.ListSummaryPageDto;
 import com.example.listapp.dto.list.ListUpdateDto;
+import com.example.listapp.security.RequiresOwnership;
 import com.example.listapp.service.ListService;
+import com.example.listapp.service.ListStreamService;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -45,12 +50,21 @@ public class ListController {
      */
     private final ListService listService;
 
+    /**
+     * Service writing list details as a stream.
+     */
+    private final ListStreamService listStreamService;
+
     /**
      * Constructor for the ListController.
      * @param listServiceParam service responsible for list business logic
+     * @param listStreamServiceParam service writing list details as a stream
      */
-    public ListController(final ListService listServiceParam) {
+    public ListController(
+        final ListService listServiceParam,
+        final ListStreamService listStreamServiceParam) {
         this.listService = listServiceParam;
+        this.listStreamService = listStreamServiceParam;
     }
 
     /**
@@ -82,7 +96,10 @@ public class ListController {
 
     /**
      * Retrieves a given list by its id.
+     * Answers with 304 Not Modified if the client already has the current
+     * version of the list.
      * @param id The id of the list to retrieve.
+     * @param request The current request, used for conditional requests.
      * @return An API response representing the result of the call.
      */
     @Operation(summary = "Get a list by ID", description =
@@ -92,36 +109,117 @@ public class ListController {
             "List retrieved successfully",
             content = @Content(mediaType = "application/json",
                 schema = @Schema(implementation = ListResponseDto.class))),
-        @ApiResponse(responseCode = "403", description = "Forbidden"),
+        @ApiResponse(responseCode = "304", description =
+            "List not modified"),
         @ApiResponse(responseCode = "404", description = "List not found")
     })
     @GetMapping("/{id}")
-    @PreAuthorize("@listSecurity.isOwner(#id)")
     public ResponseEntity<ListResponseDto> getListById(
         final @Parameter(description = "ID of the list to retrieve")
-        @PathVariable UUID id) {
+        @PathVariable UUID id,
+        final WebRequest request) {
+        String eTag = listService.getListETag(id);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
         ListResponseDto response = listService.getListById(id);
+        return ResponseEntity.ok().eTag(eTag).body(response);
+    }
+
+    /**
+     * Retrieves selected fields of a given list by its id.
+     * @param id The id of the list to retrieve.
+     * @param fields The names of the fields to return.
+     * @return An API response representing the result of the call.
+     */
+    @Operation(summary = "Get selected fields of a list by ID", description =
+        "Retrieves only the requested fields of a specific list. Items are "
+        + "requested as items or per field, such as items.title")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description =
+            "List retrieved successfully",
+            content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "400", description = "Unknown field",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ProblemDetail.class))),
+        @ApiResponse(responseCode = "404", description = "List not found")
+    })
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getListFieldsById(
+        final @Parameter(description = "ID of the list to retrieve")
+        @PathVariable UUID id,
+        final @Parameter(description = "Fields to return, separated by "
+            + "commas") @RequestParam String fields) {
+        Map<String, Object> response =
+            listService.getListFieldsById(id, fields);
         return ResponseEntity.ok(response);
     }
 
     /**
-     * Retrieves all lists belonging to the current user.
+     * Streams a given list with all of its items.
+     * @param id The id of the list to retrieve.
+     * @return An API response representing the result of the call.
+     */
+    @Operation(summary = "Stream a list by ID", description =
+        "Retrieves details of a specific list like the regular endpoint, "
+        + "but writes its items while they are read, for very large lists")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description =
+            "List retrieved successfully",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ListResponseDto.class))),
+        @ApiResponse(responseCode = "404", description = "List not found")
+    })
+    @GetMapping("/{id}:stream")
+    public ResponseEntity<StreamingResponseBody> streamListById(
+        final @Parameter(description = "ID of the list to retrieve")
+        @PathVariable UUID id) {
+        ListResponseDto header = listService.getListHeaderById(id);
+        StreamingResponseBody body =
+            out -> listStreamService.writeList(header, out);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+
+    /**
+     * Retrieves a page of the lists belonging to the current user.
+     * @param cursor The cursor returned with the previous page.
+     * @param limit The maximum amount of lists to return.
+     * @param request The current request, used for conditional requests.
      * @return An API response representing the result of the call.
      */
     @Operation(summary = "Get all lists", description =
-        "Retrieves all lists of a specific user")
+        "Retrieves summaries of the lists of a specific user, most recently "
+        + "updated first, one page at a time")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description =
             "Lists retrieved successfully",
             content = @Content(mediaType = "application/json",
-                array = @ArraySchema(
-                schema = @Schema(type = "array",
-                    implementation = ListResponseDto.class))))
+                schema = @Schema(implementation = ListSummaryPageDto.class))),
+        @ApiResponse(responseCode = "304", description =
+            "Lists not modified"),
+        @ApiResponse(responseCode = "400", description =
+            "Invalid cursor or limit",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ProblemDetail.class)))
     })
     @GetMapping
-    public ResponseEntity<List<ListResponseDto>> getLists() {
-        List<ListResponseDto> lists = listService.getAllUserLists();
-        return ResponseEntity.ok(lists);
+    public ResponseEntity<ListSummaryPageDto> getLists(
+        final @Parameter(description = "Cursor returned with the previous "
+            + "page, omitted for the first page")
+            @RequestParam(required = false) String cursor,
+        final @Parameter(description = "Maximum amount of lists to return")
+            @RequestParam(defaultValue = "50") int limit,
+        final WebRequest request) {
+        String eTag = listService.getUserListsETag(cursor, limit);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        ListSummaryPageDto page = listService.getUserLists(cursor, limit);
+        return ResponseEntity.ok().eTag(eTag).body(page);
     }
 
     /**
@@ -145,7 +243,7 @@ public class ListController {
         @ApiResponse(responseCode = "404", description = "List not found")
     })
     @PatchMapping("/{id}")
-    @PreAuthorize("@listSecurity.isOwner(#id)")
+    @RequiresOwnership(list = "id")
     public ResponseEntity<UUID> updateList(
         final @Parameter(description = "ID of the list to update")
         @PathVariable UUID id,
@@ -168,7 +266,7 @@ public class ListController {
         @ApiResponse(responseCode = "404", description = "List not found")
     })
     @DeleteMapping("/{id}")
-    @PreAuthorize("@listSecurity.isOwner(#id)")
+    @RequiresOwnership(list = "id")
     public ResponseEntity<Void> deleteList(final @PathVariable UUID id) {
         listService.deleteList(id);
         return ResponseEntity.noContent().build();
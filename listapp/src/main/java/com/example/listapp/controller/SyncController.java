@@ -0,0 +1,73 @@
+package com.example.listapp.controller;
+
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.listapp.dto.sync.SyncDto;
+import com.example.listapp.service.SyncService;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+@RequestMapping("/api/v1/sync")
+@Tag(name = "Sync Controller", description =
+    "APIs for syncing the lists and items of the authenticated user")
+public class SyncController {
+
+    /**
+     * Service for the sync business logic.
+     */
+    private final SyncService syncService;
+
+    /**
+     * Constructor for the SyncController.
+     * @param syncServiceParam service responsible for sync business logic
+     */
+    public SyncController(final SyncService syncServiceParam) {
+        this.syncService = syncServiceParam;
+    }
+
+    /**
+     * Retrieves the lists and items of the authenticated user that changed
+     * since a cursor, including deleted ones.
+     * @param since The cursor returned by the previous sync.
+     * @param limit The maximum amount of lists and of items to return.
+     * @return An API response representing the result of the call.
+     */
+    @Operation(summary = "Get changes since the last sync", description =
+        "Retrieves the lists and items that were created, updated or "
+        + "deleted since the cursor of the previous sync")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description =
+            "Changes retrieved successfully",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = SyncDto.class))),
+        @ApiResponse(responseCode = "400", description =
+            "Invalid cursor or limit",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    @GetMapping
+    public ResponseEntity<SyncDto> getChanges(
+            final @Parameter(description = "Cursor of the previous sync, "
+                + "omitted for the initial sync")
+            @RequestParam(required = false) String since,
+            final @Parameter(description = "Maximum amount of lists and of "
+                + "items to return")
+            @RequestParam(defaultValue = "500") int limit) {
+        SyncDto changes = syncService.getChanges(since, limit);
+        return ResponseEntity.ok(changes);
+    }
+}
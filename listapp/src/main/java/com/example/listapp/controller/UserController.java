@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.example.listapp.dto.user.UserResponseDto;
 import com.example.listapp.dto.user.UserUpdateDto;
@@ -50,6 +51,9 @@ public class UserController {
 
     /**
      * Retrieves the currently authenticated user.
+     * Answers with 304 Not Modified if the client already has the current
+     * version of the user.
+     * @param request The current request, used for conditional requests.
      * @return An API response representing the result of the call.
      */
     @Operation(summary = "Get current user", description =
@@ -58,14 +62,20 @@ public class UserController {
         @ApiResponse(responseCode = "200", description =
             "User retrieved successfully",
             content = @Content(mediaType = "application/json",
-                schema = @Schema(implementation = UserResponseDto.class)))
+                schema = @Schema(implementation = UserResponseDto.class))),
+        @ApiResponse(responseCode = "304", description =
+            "User not modified")
     })
     @GetMapping
     @ResponseBody
-    public ResponseEntity<UserResponseDto> getUser() {
+    public ResponseEntity<UserResponseDto> getUser(final WebRequest request) {
+        String eTag = userService.getUserETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
 
         UserResponseDto response = userService.getUser();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag).body(response);
     }
 
     /**
@@ -0,0 +1,26 @@
+package com.example.listapp.dto.item;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A window of consecutive items of a list, limited to selected fields.
+ * @param items the items of this window, in list order, as maps from field
+ *              name to value.
+ * @param nextAfterPosition position to continue after for the following
+ *                          window, or null if the list ends here.
+ */
+public record ItemFieldsPageDto(
+    List<Map<String, Object>> items,
+    Long nextAfterPosition
+) {
+
+    /**
+     * Copies the items list as immutability guarantee.
+     * @param items the items of this window.
+     * @param nextAfterPosition position to continue after.
+     */
+    public ItemFieldsPageDto {
+        items = items == null ? null : List.copyOf(items);
+    }
+}
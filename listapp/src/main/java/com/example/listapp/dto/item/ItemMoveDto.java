@@ -0,0 +1,17 @@
+package com.example.listapp.dto.item;
+
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Moves a single item relative to its new neighbours.
+ * @param itemId ID of the item to move.
+ * @param beforeId ID of the item that should directly follow the moved item.
+ * @param afterId ID of the item that should directly precede the moved item.
+ */
+public record ItemMoveDto(
+    @NotNull UUID itemId,
+    UUID beforeId,
+    UUID afterId
+) { }
@@ -0,0 +1,24 @@
+package com.example.listapp.dto.item;
+
+import java.util.List;
+
+/**
+ * A window of consecutive items of a list.
+ * @param items the items of this window, in list order.
+ * @param nextAfterPosition position to continue after for the following
+ *                          window, or null if the list ends here.
+ */
+public record ItemPageDto(
+    List<ItemSummaryDto> items,
+    Long nextAfterPosition
+) {
+
+    /**
+     * Copies the items list as immutability guarantee.
+     * @param items the items of this window.
+     * @param nextAfterPosition position to continue after.
+     */
+    public ItemPageDto {
+        items = items == null ? null : List.copyOf(items);
+    }
+}
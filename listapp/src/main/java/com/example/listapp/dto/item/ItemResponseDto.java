@@ -8,7 +8,7 @@ public record ItemResponseDto(
     String title,
     String notes,
     String imagePath,
-    Integer position,
+    Long position,
     Instant createdAt,
     Instant updatedAt,
     Long version
@@ -6,6 +6,6 @@ public record ItemSummaryDto(
     UUID id,
     String title,
     String notes,
-    Integer position,
+    Long position,
     String imagePath
 ) { }
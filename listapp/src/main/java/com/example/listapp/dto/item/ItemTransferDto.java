@@ -0,0 +1,31 @@
+package com.example.listapp.dto.item;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Moves items from one list into another list.
+ * @param targetListId ID of the list to move the items to.
+ * @param itemIds IDs of the items to move, in their new order.
+ * @param targetIndex index within the target list to insert the items at.
+ */
+public record ItemTransferDto(
+    @NotNull UUID targetListId,
+    @NotEmpty List<UUID> itemIds,
+    @PositiveOrZero int targetIndex
+) {
+
+    /**
+     * Copies the itemIds list as immutability guarantee.
+     * @param targetListId ID of the list to move the items to.
+     * @param itemIds IDs of the items to move.
+     * @param targetIndex index within the target list.
+     */
+    public ItemTransferDto {
+        itemIds = itemIds == null ? null : List.copyOf(itemIds);
+    }
+}
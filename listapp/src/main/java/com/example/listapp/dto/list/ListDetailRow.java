@@ -0,0 +1,38 @@
+package com.example.listapp.dto.list;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A row of the detail of a list. The first row holds the list with its
+ * owner and no item fields, every further row one of its items and no
+ * list fields.
+ * @param id ID of the list.
+ * @param title title of the list.
+ * @param description description of the list.
+ * @param createdAt time the list was created.
+ * @param updatedAt time of the last update of the list.
+ * @param version version of the list.
+ * @param ownerId ID of the owner of the list.
+ * @param ownerName name of the owner of the list.
+ * @param itemId ID of the item.
+ * @param itemTitle title of the item.
+ * @param itemNotes notes of the item.
+ * @param itemPosition position key of the item.
+ * @param itemImagePath image path of the item.
+ */
+public record ListDetailRow(
+    UUID id,
+    String title,
+    String description,
+    Instant createdAt,
+    Instant updatedAt,
+    Long version,
+    UUID ownerId,
+    String ownerName,
+    UUID itemId,
+    String itemTitle,
+    String itemNotes,
+    Long itemPosition,
+    String itemImagePath
+) { }
@@ -1,7 +1,7 @@
 package com.example.listapp.dto.list;
 
 import java.time.Instant;
-import java.util.Set;
+import java.util.List;
 import java.util.UUID;
 
 import com.example.listapp.dto.item.ItemSummaryDto;
@@ -15,13 +15,15 @@ public record ListResponseDto(
     Instant updatedAt,
     Long version,
     UserSummaryDto owner,
-    Set<ItemSummaryDto> items
+    List<ItemSummaryDto> items
 ) {
 
     /**
-     * Safely copies the list as immutability guarantee.
+     * Safely copies the list as immutability guarantee. The items keep
+     * their order. Mappers hand over the list they built, so this
+     * is the only copy.
      */
     public ListResponseDto {
-        items = items == null ? Set.of() : Set.copyOf(items);
+        items = items == null ? List.of() : List.copyOf(items);
     }
 }
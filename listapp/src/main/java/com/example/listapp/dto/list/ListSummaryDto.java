@@ -1,5 +1,12 @@
 package com.example.listapp.dto.list;
 
+import java.time.Instant;
 import java.util.UUID;
 
-public record ListSummaryDto(UUID id, String title, int itemCount) { }
+public record ListSummaryDto(
+    UUID id,
+    String title,
+    String description,
+    Instant updatedAt,
+    long itemCount
+) { }
@@ -0,0 +1,23 @@
+package com.example.listapp.dto.list;
+
+import java.util.List;
+
+/**
+ * A page of list summaries.
+ * @param items the summaries of this page, most recently updated first.
+ * @param nextCursor cursor of the following page, or null on the last page.
+ */
+public record ListSummaryPageDto(
+    List<ListSummaryDto> items,
+    String nextCursor
+) {
+
+    /**
+     * Copies the items list as immutability guarantee.
+     * @param items the summaries of this page.
+     * @param nextCursor cursor of the following page.
+     */
+    public ListSummaryPageDto {
+        items = items == null ? null : List.copyOf(items);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.listapp.dto.sync;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An item that was created, updated or deleted since the last sync.
+ * @param id ID of the item.
+ * @param listId ID of the list the item belongs to.
+ * @param title title of the item.
+ * @param notes notes of the item.
+ * @param position sparse ordering key of the item within its list.
+ * @param imagePath URL of the image of the item.
+ * @param updatedAt time of the last update of the item.
+ * @param version version of the item.
+ * @param deleted whether the item has been deleted.
+ */
+public record ItemChangeDto(
+    UUID id,
+    UUID listId,
+    String title,
+    String notes,
+    Long position,
+    String imagePath,
+    Instant updatedAt,
+    Long version,
+    boolean deleted
+) { }
@@ -0,0 +1,22 @@
+package com.example.listapp.dto.sync;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A list that was created, updated or deleted since the last sync.
+ * @param id ID of the list.
+ * @param title title of the list.
+ * @param description description of the list.
+ * @param updatedAt time of the last update of the list.
+ * @param version version of the list.
+ * @param deleted whether the list has been deleted.
+ */
+public record ListChangeDto(
+    UUID id,
+    String title,
+    String description,
+    Instant updatedAt,
+    Long version,
+    boolean deleted
+) { }
@@ -0,0 +1,30 @@
+package com.example.listapp.dto.sync;
+
+import java.util.List;
+
+/**
+ * Changes of the lists and items of a user since a sync cursor.
+ * @param lists the changed lists, in the order of their last update.
+ * @param items the changed items, in the order of their last update.
+ * @param nextCursor cursor to pass as {@code since} on the next sync.
+ * @param hasMore whether further changes are available right away.
+ */
+public record SyncDto(
+    List<ListChangeDto> lists,
+    List<ItemChangeDto> items,
+    String nextCursor,
+    boolean hasMore
+) {
+
+    /**
+     * Copies the changes as immutability guarantee.
+     * @param lists the changed lists.
+     * @param items the changed items.
+     * @param nextCursor cursor to pass on the next sync.
+     * @param hasMore whether further changes are available.
+     */
+    public SyncDto {
+        lists = lists == null ? null : List.copyOf(lists);
+        items = items == null ? null : List.copyOf(items);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Package containing Sync DTOs.
+ */
+package com.example.listapp.dto.sync;
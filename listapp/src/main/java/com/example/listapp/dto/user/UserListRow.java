@@ -0,0 +1,33 @@
+package com.example.listapp.dto.user;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A user joined with the summary of one of their lists. A user without
+ * lists is returned as a single row without list fields.
+ * @param id ID of the user.
+ * @param name name of the user.
+ * @param email email of the user.
+ * @param createdAt time the user was created.
+ * @param updatedAt time of the last update of the user.
+ * @param version version of the user.
+ * @param listId ID of the list, or null if the user has no lists.
+ * @param listTitle title of the list.
+ * @param listDescription description of the list.
+ * @param listUpdatedAt time of the last update of the list.
+ * @param listItemCount amount of items in the list.
+ */
+public record UserListRow(
+    UUID id,
+    String name,
+    String email,
+    Instant createdAt,
+    Instant updatedAt,
+    Long version,
+    UUID listId,
+    String listTitle,
+    String listDescription,
+    Instant listUpdatedAt,
+    long listItemCount
+) { }
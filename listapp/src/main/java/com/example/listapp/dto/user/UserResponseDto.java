@@ -1,7 +1,7 @@
 package com.example.listapp.dto.user;
 
 import java.time.Instant;
-import java.util.Set;
+import java.util.List;
 import java.util.UUID;
 
 import com.example.listapp.dto.list.ListSummaryDto;
@@ -13,13 +13,13 @@ public record UserResponseDto(
     Instant createdAt,
     Instant updatedAt,
     Long version,
-    Set<ListSummaryDto> lists
+    List<ListSummaryDto> lists
 ) {
 
     /**
      * Safely copies the list as immutability guarantee.
      */
     public UserResponseDto {
-        lists = lists == null ? Set.of() : Set.copyOf(lists);
+        lists = lists == null ? List.of() : List.copyOf(lists);
     }
 }
@@ -3,14 +3,18 @@ package com.example.listapp.entity;
 import java.time.Instant;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.SourceType;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import com.example.listapp.helper.Constraints;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -20,7 +24,6 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
-import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -30,14 +33,13 @@ import lombok.Setter;
 /**
  * Database table definition for an Item.
  */
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "items")
 @DynamicUpdate
 @Getter
 @Setter
 @SQLRestriction("deleted = false")
 @Entity
-@Table(name = "list_items", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"list_id", "position"})
-})
+@Table(name = "list_items")
 @SuppressFBWarnings("EI_EXPOSE_REP")
 public class Item {
 
@@ -57,10 +59,10 @@ public class Item {
     private ListEntity list;
 
     /**
-     * Position of the item within the list.
+     * Sparse ordering key of the item within the list.
      */
     @Column(nullable = false)
-    private Integer position;
+    private Long position;
 
     /**
      * Title of the item.
@@ -72,7 +74,9 @@ public class Item {
 
     /**
      * Optional field to display notes for the item.
+     * Loaded on first access, as most uses of an item never read it.
      */
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "metadata", columnDefinition = "text", nullable = true)
     private String notes;
 
@@ -92,9 +96,10 @@ public class Item {
     private Instant createdAt;
 
     /**
-     * Timestamp of the last update of the item.
+     * Timestamp of the last update of the item, taken from the database
+     * like the one of the bulk updates.
      */
-    @UpdateTimestamp
+    @UpdateTimestamp(source = SourceType.DB)
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
@@ -5,14 +5,19 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.SourceType;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import com.example.listapp.helper.Constraints;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.persistence.Basic;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -34,6 +39,7 @@ import lombok.Setter;
 /**
  * Database table definition for a List.
  */
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "lists")
 @DynamicUpdate
 @Getter
 @Setter
@@ -68,7 +74,9 @@ public class ListEntity {
 
     /**
      * The description of the list.
+     * Loaded on first access, as most uses of a list never read it.
      */
+    @Basic(fetch = FetchType.LAZY)
     @Size(max = Constraints.DESCRIPTION_MAX_LENGTH)
     @Column(columnDefinition = "text", nullable = true)
     private String description;
@@ -81,9 +89,10 @@ public class ListEntity {
     private Instant createdAt;
 
     /**
-     * Timestamp of the last update of the list.
+     * Timestamp of the last update of the list, taken from the database
+     * like the one of the bulk updates.
      */
-    @UpdateTimestamp
+    @UpdateTimestamp(source = SourceType.DB)
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
@@ -93,8 +102,19 @@ public class ListEntity {
     @OneToMany(mappedBy = "list", cascade = CascadeType.ALL,
         orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("position ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE,
+        region = "list-items")
     private List<Item> items = new ArrayList<>();
 
+    /**
+     * The highest position key handed out to an item of the list.
+     * Only ever advanced by the database, see ListRepository.
+     */
+    @ColumnDefault("0")
+    @Column(name = "next_position", nullable = false,
+        insertable = false, updatable = false)
+    private long nextPosition;
+
     /**
      * Soft-delete flag for the list.
      */
@@ -5,6 +5,8 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -31,6 +33,7 @@ import lombok.Setter;
 /**
  * Database table definition for a User.
  */
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @DynamicUpdate
 @Getter
 @Setter
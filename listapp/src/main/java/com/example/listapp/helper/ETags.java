@@ -0,0 +1,44 @@
+package com.example.listapp.helper;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * Entity tags for conditional requests.
+ *
+ * Tags are derived from a version stamp computed on the database, such as
+ * the versions and last update times of a list and its items, so they can
+ * be compared without loading the resource itself.
+ */
+public final class ETags {
+
+    private ETags() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Creates a strong entity tag, for representations that are identical
+     * as long as the stamp is unchanged.
+     * @param stamp the version stamp of the resource.
+     * @return the quoted entity tag.
+     */
+    public static String strong(final String stamp) {
+        return "\"" + hash(stamp) + "\"";
+    }
+
+    /**
+     * Creates a weak entity tag, for representations that are equivalent
+     * as long as the stamp is unchanged.
+     * @param stamp the version stamp of the resource.
+     * @return the quoted entity tag.
+     */
+    public static String weak(final String stamp) {
+        return "W/" + strong(stamp);
+    }
+
+    private static String hash(final String stamp) {
+        return DigestUtils.md5DigestAsHex(
+            stamp.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.listapp.helper;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.example.listapp.exception.custom.InvalidInputException;
+
+/**
+ * Fields of an item that can be requested individually.
+ */
+public enum ItemField {
+
+    /**
+     * The title of the item.
+     */
+    TITLE("title", "i.title"),
+
+    /**
+     * The notes of the item.
+     */
+    NOTES("notes", "i.notes"),
+
+    /**
+     * The position key of the item.
+     */
+    POSITION("position", "i.position"),
+
+    /**
+     * The path of the image of the item.
+     */
+    IMAGE_PATH("imagePath", "i.imagePath");
+
+    /**
+     * The name of the field as used by the API.
+     */
+    private final String value;
+
+    /**
+     * The path of the field within a query on items aliased as i.
+     */
+    private final String path;
+
+    ItemField(final String valueParam, final String pathParam) {
+        this.value = valueParam;
+        this.path = pathParam;
+    }
+
+    /**
+     * Retrieves the name of the field as used by the API.
+     * @return the name of the field.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Retrieves the path of the field within a query on items aliased as i.
+     * @return the path of the field.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Resolves a field from its API name.
+     * @param value the name of the field as used by the API.
+     * @return the matching field.
+     */
+    public static ItemField fromValue(final String value) {
+        for (ItemField field : values()) {
+            if (field.value.equals(value)) {
+                return field;
+            }
+        }
+        throw new InvalidInputException("Unknown item field " + value);
+    }
+
+    /**
+     * Resolves a comma separated list of API names.
+     * @param fields the names of the fields, separated by commas.
+     * @return the matching fields.
+     */
+    public static Set<ItemField> parse(final String fields) {
+        Set<ItemField> result = EnumSet.noneOf(ItemField.class);
+        for (String field : fields.split(",")) {
+            if (!field.isBlank()) {
+                result.add(fromValue(field.trim()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.listapp.helper;
+
+import com.example.listapp.exception.custom.InvalidInputException;
+
+/**
+ * Fields the items of a list can be sorted by on the server.
+ */
+public enum ItemSortField {
+
+    /**
+     * Sorts items alphabetically by their title, ignoring case.
+     */
+    TITLE("title"),
+
+    /**
+     * Sorts items by the time they were created.
+     */
+    CREATED_AT("createdAt");
+
+    /**
+     * The name of the field as used by the API.
+     */
+    private final String value;
+
+    ItemSortField(final String valueParam) {
+        this.value = valueParam;
+    }
+
+    /**
+     * Retrieves the name of the field as used by the API.
+     * @return the name of the field.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Resolves a field from its API name.
+     * @param value the name of the field as used by the API.
+     * @return the matching field.
+     */
+    public static ItemSortField fromValue(final String value) {
+        for (ItemSortField field : values()) {
+            if (field.value.equals(value)) {
+                return field;
+            }
+        }
+        throw new InvalidInputException("Items cannot be sorted by " + value);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.listapp.helper;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.example.listapp.exception.custom.InvalidInputException;
+
+/**
+ * Position within the lists of a user, ordered by their last update.
+ *
+ * The cursor is handed to clients as an opaque URL-safe string, so the
+ * next page can be fetched by seeking past the last returned list instead
+ * of skipping every list before it.
+ * @param updatedAt time of the last update of the last returned list.
+ * @param id ID of the last returned list.
+ */
+public record ListCursor(Instant updatedAt, UUID id) {
+
+    /**
+     * Size of an encoded cursor in bytes.
+     */
+    private static final int BYTES =
+        Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    /**
+     * Encodes the cursor for clients.
+     * @return the opaque cursor.
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(BYTES);
+        buffer.putLong(updatedAt.getEpochSecond());
+        buffer.putInt(updatedAt.getNano());
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a cursor received from a client.
+     * @param cursor the opaque cursor.
+     * @return the decoded cursor.
+     */
+    public static ListCursor decode(final String cursor) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != BYTES) {
+                throw new InvalidInputException("Invalid cursor");
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            Instant updatedAt = Instant.ofEpochSecond(
+                buffer.getLong(), buffer.getInt());
+            UUID id = new UUID(buffer.getLong(), buffer.getLong());
+            return new ListCursor(updatedAt, id);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidInputException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.listapp.helper;
+
+import com.example.listapp.exception.custom.InvalidInputException;
+
+/**
+ * Fields of a list that can be requested individually.
+ *
+ * Items are requested with the name items, or per field with names such as
+ * items.title, which are resolved through ItemField.
+ */
+public enum ListField {
+
+    /**
+     * The title of the list.
+     */
+    TITLE("title", "l.title"),
+
+    /**
+     * The description of the list.
+     */
+    DESCRIPTION("description", "l.description"),
+
+    /**
+     * The time the list was created.
+     */
+    CREATED_AT("createdAt", "l.createdAt"),
+
+    /**
+     * The time the list was last updated.
+     */
+    UPDATED_AT("updatedAt", "l.updatedAt"),
+
+    /**
+     * The version of the list.
+     */
+    VERSION("version", "l.version"),
+
+    /**
+     * The ID and name of the owner of the list.
+     */
+    OWNER("owner", null);
+
+    /**
+     * The name of the field as used by the API.
+     */
+    private final String value;
+
+    /**
+     * The path of the field within a query on lists aliased as l, or null if
+     * the field needs a join.
+     */
+    private final String path;
+
+    ListField(final String valueParam, final String pathParam) {
+        this.value = valueParam;
+        this.path = pathParam;
+    }
+
+    /**
+     * Retrieves the name of the field as used by the API.
+     * @return the name of the field.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Retrieves the path of the field within a query on lists aliased as l.
+     * @return the path of the field, or null if the field needs a join.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Resolves a field from its API name.
+     * @param value the name of the field as used by the API.
+     * @return the matching field.
+     */
+    public static ListField fromValue(final String value) {
+        for (ListField field : values()) {
+            if (field.value.equals(value)) {
+                return field;
+            }
+        }
+        throw new InvalidInputException("Unknown list field " + value);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.listapp.helper;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Arrays of UUIDs packed as consecutive 16-byte big-endian values.
+ *
+ * Large item orders are handled in this form on their way to the
+ * database, so they are neither parsed from strings nor boxed into UUID
+ * objects before the order is written.
+ */
+public final class PackedUuids {
+
+    /**
+     * Size of a single packed UUID in bytes.
+     */
+    public static final int UUID_BYTES = 16;
+
+    /**
+     * Multiplier spreading the bits of a UUID over the hash table.
+     */
+    private static final long MIX = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Amount of bits kept from the mixed hash.
+     */
+    private static final int HASH_SHIFT = 32;
+
+    private PackedUuids() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Packs a list of UUIDs.
+     * @param ids the UUIDs to pack.
+     * @return the packed UUIDs.
+     */
+    public static byte[] pack(final List<UUID> ids) {
+        ByteBuffer buffer = ByteBuffer.allocate(ids.size() * UUID_BYTES);
+        for (UUID id : ids) {
+            buffer.putLong(id.getMostSignificantBits());
+            buffer.putLong(id.getLeastSignificantBits());
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Determines whether a byte array is a whole number of packed UUIDs.
+     * @param packed the packed UUIDs.
+     * @return if the array length is a multiple of the UUID size.
+     */
+    public static boolean isWellFormed(final byte[] packed) {
+        return packed.length % UUID_BYTES == 0;
+    }
+
+    /**
+     * Counts the UUIDs within a packed array.
+     * @param packed the packed UUIDs.
+     * @return the amount of UUIDs.
+     */
+    public static int count(final byte[] packed) {
+        return packed.length / UUID_BYTES;
+    }
+
+    /**
+     * Determines whether a packed array contains a UUID more than once.
+     * Uses an open-addressing table over the two halves of each UUID.
+     * @param packed the packed UUIDs.
+     * @return if any UUID occurs more than once.
+     */
+    public static boolean hasDuplicates(final byte[] packed) {
+        int count = count(packed);
+        int capacity = Integer.highestOneBit(Math.max(count, 1)) << 2;
+        int mask = capacity - 1;
+
+        long[] most = new long[capacity];
+        long[] least = new long[capacity];
+        boolean[] used = new boolean[capacity];
+        ByteBuffer buffer = ByteBuffer.wrap(packed);
+
+        for (int i = 0; i < count; i++) {
+            long msb = buffer.getLong(i * UUID_BYTES);
+            long lsb = buffer.getLong(i * UUID_BYTES + Long.BYTES);
+
+            int slot = (int) (((msb ^ lsb) * MIX) >>> HASH_SHIFT) & mask;
+            while (used[slot]) {
+                if (most[slot] == msb && least[slot] == lsb) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            used[slot] = true;
+            most[slot] = msb;
+            least[slot] = lsb;
+        }
+        return false;
+    }
+}
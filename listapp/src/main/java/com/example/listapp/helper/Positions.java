@@ -0,0 +1,55 @@
+package com.example.listapp.helper;
+
+/**
+ * Sparse ordering keys for items within a list.
+ *
+ * Items are ranked with gaps between neighbours, so an item can be moved
+ * by assigning it a key between two existing keys instead of renumbering
+ * every following item.
+ */
+public final class Positions {
+
+    /**
+     * Distance between two consecutive keys of a freshly numbered list.
+     */
+    public static final long GAP = 65_536L;
+
+    /**
+     * Exclusive lower bound of all keys, used as the start of a list.
+     */
+    public static final long START = 0L;
+
+    private Positions() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Spreads a number of keys evenly between two existing keys.
+     * @param lower the key before the run, exclusive.
+     * @param upper the key after the run, exclusive, or null for the end.
+     * @param count the amount of keys to generate.
+     * @return the generated keys, or null if there is not enough room.
+     */
+    public static long[] between(
+        final long lower,
+        final Long upper,
+        final int count
+    ) {
+        long[] keys = new long[count];
+        if (upper == null) {
+            for (int i = 0; i < count; i++) {
+                keys[i] = lower + (i + 1) * GAP;
+            }
+            return keys;
+        }
+
+        long step = (upper - lower) / (count + 1);
+        if (step < 1) {
+            return null;
+        }
+        for (int i = 0; i < count; i++) {
+            keys[i] = lower + (i + 1) * step;
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.listapp.helper;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.example.listapp.exception.custom.InvalidInputException;
+
+/**
+ * Position within the change history of the lists and items of a user.
+ *
+ * Lists and items are synced independently, ordered by their last update,
+ * so the cursor keeps the last returned change of both. It is handed to
+ * clients as an opaque URL-safe string.
+ * @param listUpdatedAt time of the last update of the last synced list.
+ * @param listId ID of the last synced list.
+ * @param itemUpdatedAt time of the last update of the last synced item.
+ * @param itemId ID of the last synced item.
+ */
+public record SyncCursor(
+    Instant listUpdatedAt,
+    UUID listId,
+    Instant itemUpdatedAt,
+    UUID itemId
+) {
+
+    /**
+     * Cursor preceding every change, used for the initial sync.
+     */
+    public static final SyncCursor START = new SyncCursor(
+        Instant.EPOCH, new UUID(0, 0), Instant.EPOCH, new UUID(0, 0));
+
+    /**
+     * Size of an encoded position in bytes.
+     */
+    private static final int POSITION_BYTES =
+        Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    /**
+     * Size of an encoded cursor in bytes.
+     */
+    private static final int BYTES = 2 * POSITION_BYTES;
+
+    /**
+     * Advances the list position of the cursor.
+     * @param updatedAt time of the last update of the last synced list.
+     * @param id ID of the last synced list.
+     * @return the advanced cursor.
+     */
+    public SyncCursor withList(final Instant updatedAt, final UUID id) {
+        return new SyncCursor(updatedAt, id, itemUpdatedAt, itemId);
+    }
+
+    /**
+     * Advances the item position of the cursor.
+     * @param updatedAt time of the last update of the last synced item.
+     * @param id ID of the last synced item.
+     * @return the advanced cursor.
+     */
+    public SyncCursor withItem(final Instant updatedAt, final UUID id) {
+        return new SyncCursor(listUpdatedAt, listId, updatedAt, id);
+    }
+
+    /**
+     * Encodes the cursor for clients.
+     * @return the opaque cursor.
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(BYTES);
+        put(buffer, listUpdatedAt, listId);
+        put(buffer, itemUpdatedAt, itemId);
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a cursor received from a client.
+     * @param cursor the opaque cursor.
+     * @return the decoded cursor.
+     */
+    public static SyncCursor decode(final String cursor) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != BYTES) {
+                throw new InvalidInputException("Invalid cursor");
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            Instant listUpdatedAt = Instant.ofEpochSecond(
+                buffer.getLong(), buffer.getInt());
+            UUID listId = new UUID(buffer.getLong(), buffer.getLong());
+            Instant itemUpdatedAt = Instant.ofEpochSecond(
+                buffer.getLong(), buffer.getInt());
+            UUID itemId = new UUID(buffer.getLong(), buffer.getLong());
+            return new SyncCursor(listUpdatedAt, listId, itemUpdatedAt, itemId);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidInputException("Invalid cursor");
+        }
+    }
+
+    private static void put(
+        final ByteBuffer buffer,
+        final Instant updatedAt,
+        final UUID id) {
+        buffer.putLong(updatedAt.getEpochSecond());
+        buffer.putInt(updatedAt.getNano());
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+    }
+}
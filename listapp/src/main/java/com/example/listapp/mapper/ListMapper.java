@@ -1,33 +1,50 @@
 package com.example.listapp.mapper;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import com.example.listapp.dto.item.ItemSummaryDto;
 import com.example.listapp.dto.list.ListCreateDto;
+import com.example.listapp.dto.list.ListDetailRow;
 import com.example.listapp.dto.list.ListResponseDto;
-import com.example.listapp.dto.list.ListSummaryDto;
+import com.example.listapp.dto.user.UserSummaryDto;
 import com.example.listapp.entity.ListEntity;
 
-@Mapper(componentModel = "spring", uses = {ItemMapper.class})
+@Mapper(componentModel = "spring")
 public interface ListMapper {
 
     /**
-     * Maps a List entity to a response dto.
-     * @param entity the entity to be mapped.
-     * @return the response dto.
+     * Maps the rows of a list and its items to a response dto.
+     * @param rows the rows of a single list, as returned by
+     *             ListRepository#findDetailByIdAndOwnerId: the list first,
+     *             followed by its items.
+     * @return the response dto, with the items in the order of the rows.
      */
-    @Mapping(target = "owner", source = "owner")
-    @Mapping(target = "items", source = "items")
-    ListResponseDto toResponseDto(ListEntity entity);
+    default ListResponseDto toResponseDto(List<ListDetailRow> rows) {
+        ListDetailRow list = rows.get(0);
+        List<ItemSummaryDto> items = new ArrayList<>(rows.size() - 1);
+        for (ListDetailRow row : rows.subList(1, rows.size())) {
+            items.add(new ItemSummaryDto(row.itemId(), row.itemTitle(),
+                row.itemNotes(), row.itemPosition(), row.itemImagePath()));
+        }
+
+        return new ListResponseDto(list.id(), list.title(),
+            list.description(), list.createdAt(), list.updatedAt(),
+            list.version(), new UserSummaryDto(list.ownerId(),
+                list.ownerName()), items);
+    }
 
     /**
-     * Maps a List entity to a summary dto.
+     * Maps a List entity to a response dto without its items.
      * @param entity the entity to be mapped.
-     * @return the response dto.
+     * @return the response dto without items.
      */
-    @Mapping(target = "itemCount", expression =
-        "java(entity.getItems() != null ? entity.getItems().size() : 0)")
-    ListSummaryDto toSummaryDto(ListEntity entity);
+    @Mapping(target = "owner", source = "owner")
+    @Mapping(target = "items", ignore = true)
+    ListResponseDto toHeaderDto(ListEntity entity);
 
     /**
      * Maps a ListCreateDto to an entity.
@@ -41,5 +58,6 @@ public interface ListMapper {
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "deleted", ignore = true)
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "nextPosition", ignore = true)
     ListEntity toEntity(ListCreateDto dto);
 }
@@ -1,23 +1,38 @@
 package com.example.listapp.mapper;
 
+import java.util.List;
+
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import com.example.listapp.dto.list.ListSummaryDto;
 import com.example.listapp.dto.user.UserCreateDto;
+import com.example.listapp.dto.user.UserListRow;
 import com.example.listapp.dto.user.UserResponseDto;
 import com.example.listapp.dto.user.UserSummaryDto;
 import com.example.listapp.entity.User;
 
-@Mapper(componentModel = "spring", uses = ListMapper.class)
+@Mapper(componentModel = "spring")
 public interface UserMapper {
 
     /**
-     * Maps a user entity to a response dto.
-     * @param entity the entity to be mapped.
+     * Maps the rows of a user and their list summaries to a response dto.
+     * @param rows the rows of a single user, as returned by
+     *             UserRepository#findWithListSummariesById.
      * @return the response dto.
      */
-    @Mapping(target = "lists", source = "lists")
-    UserResponseDto toResponseDto(User entity);
+    default UserResponseDto toResponseDto(List<UserListRow> rows) {
+        UserListRow user = rows.get(0);
+        List<ListSummaryDto> lists = rows.stream()
+            .filter(row -> row.listId() != null)
+            .map(row -> new ListSummaryDto(row.listId(), row.listTitle(),
+                row.listDescription(), row.listUpdatedAt(),
+                row.listItemCount()))
+            .toList();
+
+        return new UserResponseDto(user.id(), user.name(), user.email(),
+            user.createdAt(), user.updatedAt(), user.version(), lists);
+    }
 
     /**
      * Maps a user entity to a summary dto.
@@ -0,0 +1,17 @@
+package com.example.listapp.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface ItemCacheRepository {
+
+    /**
+     * Removes items and the item collection of their list from the
+     * second-level cache. Everything else stays cached.
+     * Needed after native statements, which change items without Hibernate
+     * noticing.
+     * @param listId ID of the list whose items changed.
+     * @param itemIds IDs of the changed items.
+     */
+    void evictItems(UUID listId, Collection<UUID> itemIds);
+}
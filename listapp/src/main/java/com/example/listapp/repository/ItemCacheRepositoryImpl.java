@@ -0,0 +1,84 @@
+package com.example.listapp.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.listapp.entity.Item;
+import com.example.listapp.entity.ListEntity;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Evicts single items from the second-level cache.
+ *
+ * Within a transaction the entries are evicted once it completes. Until
+ * the commit, other transactions still see the old rows, so a concurrent
+ * read may cache them again, and evicting earlier would not help. The
+ * services do not load the changed items again within the transaction.
+ * Outside of a transaction the entries are evicted right away.
+ */
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+public final class ItemCacheRepositoryImpl implements ItemCacheRepository {
+
+    /**
+     * Role of the cached item collection of a list.
+     */
+    private static final String LIST_ITEMS =
+        ListEntity.class.getName() + ".items";
+
+    /**
+     * Entity manager to reach the cache with.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor for the ItemCacheRepositoryImpl.
+     * @param entityManagerParam entity manager to reach the cache with
+     */
+    public ItemCacheRepositoryImpl(final EntityManager entityManagerParam) {
+        this.entityManager = entityManagerParam;
+    }
+
+    @Override
+    public void evictItems(
+        final UUID listId,
+        final Collection<UUID> itemIds) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache()
+            .unwrap(Cache.class);
+        List<UUID> ids = List.copyOf(itemIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(cache, listId, ids);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    evict(cache, listId, ids);
+                }
+            });
+    }
+
+    /**
+     * Removes items and the item collection of their list from the cache.
+     * @param cache the second-level cache.
+     * @param listId ID of the list whose items changed.
+     * @param itemIds IDs of the changed items.
+     */
+    private static void evict(
+        final Cache cache,
+        final UUID listId,
+        final List<UUID> itemIds) {
+        for (UUID itemId : itemIds) {
+            cache.evictEntityData(Item.class, itemId);
+        }
+        cache.evictCollectionData(LIST_ITEMS, listId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.listapp.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import com.example.listapp.dto.sync.ItemChangeDto;
+
+public interface ItemChangeRepository {
+
+    /**
+     * Retrieves the items of the lists of a user that changed after a given
+     * item, in the order of their last update. Deleted items are included,
+     * so clients learn about deletions as well.
+     * @param ownerId ID of the user to retrieve changes for.
+     * @param afterUpdatedAt time of the last update of the preceding item.
+     * @param afterId ID of the preceding item.
+     * @param settleTime age a change needs to reach by the clock of the
+     *                   database to be included.
+     * @param limit maximum amount of items to return.
+     * @return the changed items.
+     */
+    List<ItemChangeDto> findChangesByOwnerId(
+        UUID ownerId,
+        Instant afterUpdatedAt,
+        UUID afterId,
+        Duration settleTime,
+        int limit
+    );
+}
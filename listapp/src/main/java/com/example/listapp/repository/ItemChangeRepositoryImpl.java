@@ -0,0 +1,94 @@
+package com.example.listapp.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.query.NativeQuery;
+
+import com.example.listapp.dto.sync.ItemChangeDto;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+
+/**
+ * Reads item changes straight from the table, as the entity mapping hides
+ * deleted items.
+ */
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+public final class ItemChangeRepositoryImpl implements ItemChangeRepository {
+
+    /**
+     * Query for the changed items of the lists of a user. The cursor is
+     * compared as a row, so each list is read as a range of the index on
+     * (list_id, updated_at, id) instead of in full. The upper bound is
+     * taken from the clock of the database, which stamps the rows.
+     */
+    private static final String CHANGES = """
+        SELECT i.id, i.list_id, i.title, i.metadata, i.position,
+          i.image_path, i.updated_at, i.version, i.deleted
+        FROM list_items i
+        JOIN lists l ON l.id = i.list_id
+        WHERE l.owner_id = :ownerId
+          AND (i.updated_at, i.id) > (:afterUpdatedAt, :afterId)
+          AND i.updated_at <= CURRENT_TIMESTAMP
+            - CAST(:settleMillis AS BIGINT) * INTERVAL '0.001' SECOND
+        ORDER BY i.updated_at, i.id
+        """;
+
+    /**
+     * Entity manager to run the queries with.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor for the ItemChangeRepositoryImpl.
+     * @param entityManagerParam entity manager to run the queries with
+     */
+    public ItemChangeRepositoryImpl(final EntityManager entityManagerParam) {
+        this.entityManager = entityManagerParam;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ItemChangeDto> findChangesByOwnerId(
+        final UUID ownerId,
+        final Instant afterUpdatedAt,
+        final UUID afterId,
+        final Duration settleTime,
+        final int limit) {
+        NativeQuery<Tuple> query = entityManager
+            .createNativeQuery(CHANGES, Tuple.class)
+            .unwrap(NativeQuery.class)
+            .addScalar("id", UUID.class)
+            .addScalar("list_id", UUID.class)
+            .addScalar("title", String.class)
+            .addScalar("metadata", String.class)
+            .addScalar("position", Long.class)
+            .addScalar("image_path", String.class)
+            .addScalar("updated_at", Instant.class)
+            .addScalar("version", Long.class)
+            .addScalar("deleted", Boolean.class);
+
+        return query
+            .setParameter("ownerId", ownerId)
+            .setParameter("afterUpdatedAt", afterUpdatedAt)
+            .setParameter("afterId", afterId)
+            .setParameter("settleMillis", settleTime.toMillis())
+            .setMaxResults(limit)
+            .getResultList().stream()
+            .map(row -> new ItemChangeDto(
+                row.get("id", UUID.class),
+                row.get("list_id", UUID.class),
+                row.get("title", String.class),
+                row.get("metadata", String.class),
+                row.get("position", Long.class),
+                row.get("image_path", String.class),
+                row.get("updated_at", Instant.class),
+                row.get("version", Long.class),
+                row.get("deleted", Boolean.class)))
+            .toList();
+    }
+}
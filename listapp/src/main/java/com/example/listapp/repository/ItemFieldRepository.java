@@ -0,0 +1,40 @@
+package com.example.listapp.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.example.listapp.helper.ItemField;
+
+public interface ItemFieldRepository {
+
+    /**
+     * Retrieves selected fields of the items of a list that follow a given
+     * key, in ascending order of their keys. Only the selected fields are
+     * read from the database.
+     * @param listId ID of the list to retrieve items for.
+     * @param fields the fields to retrieve in addition to the ID.
+     * @param afterPosition the key to continue after, exclusive.
+     * @param limit maximum amount of items to return.
+     * @return the items as maps from field name to value.
+     */
+    List<Map<String, Object>> findFieldsByListId(
+        UUID listId,
+        Set<ItemField> fields,
+        long afterPosition,
+        int limit
+    );
+
+    /**
+     * Retrieves selected fields of all items of a list, in ascending order of
+     * their keys. Only the selected fields are read from the database.
+     * @param listId ID of the list to retrieve items for.
+     * @param fields the fields to retrieve in addition to the ID.
+     * @return the items as maps from field name to value.
+     */
+    List<Map<String, Object>> findFieldsByListId(
+        UUID listId,
+        Set<ItemField> fields
+    );
+}
@@ -0,0 +1,87 @@
+package com.example.listapp.repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.example.listapp.helper.ItemField;
+import com.example.listapp.helper.Positions;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Builds item queries that only select the requested fields.
+ */
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+public final class ItemFieldRepositoryImpl implements ItemFieldRepository {
+
+    /**
+     * Entity manager to run the queries with.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor for the ItemFieldRepositoryImpl.
+     * @param entityManagerParam entity manager to run the queries with
+     */
+    public ItemFieldRepositoryImpl(final EntityManager entityManagerParam) {
+        this.entityManager = entityManagerParam;
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsByListId(
+        final UUID listId,
+        final Set<ItemField> fields,
+        final long afterPosition,
+        final int limit) {
+        return query(listId, fields, afterPosition)
+            .setMaxResults(limit)
+            .getResultList().stream()
+            .map(tuple -> toMap(tuple, fields))
+            .toList();
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsByListId(
+        final UUID listId,
+        final Set<ItemField> fields) {
+        return query(listId, fields, Positions.START)
+            .getResultList().stream()
+            .map(tuple -> toMap(tuple, fields))
+            .toList();
+    }
+
+    private TypedQuery<Tuple> query(
+        final UUID listId,
+        final Set<ItemField> fields,
+        final long afterPosition) {
+        StringBuilder select = new StringBuilder("SELECT i.id");
+        for (ItemField field : fields) {
+            select.append(", ").append(field.getPath());
+        }
+        select.append(" FROM Item i WHERE i.list.id = :listId")
+            .append(" AND i.position > :afterPosition")
+            .append(" ORDER BY i.position");
+
+        return entityManager.createQuery(select.toString(), Tuple.class)
+            .setParameter("listId", listId)
+            .setParameter("afterPosition", afterPosition);
+    }
+
+    private static Map<String, Object> toMap(
+        final Tuple tuple,
+        final Set<ItemField> fields) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("id", tuple.get(0));
+        int index = 1;
+        for (ItemField field : fields) {
+            item.put(field.getValue(), tuple.get(index++));
+        }
+        return item;
+    }
+}
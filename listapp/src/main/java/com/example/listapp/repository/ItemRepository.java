@@ -1,21 +1,26 @@
 package com.example.listapp.repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.example.listapp.dto.item.ItemSummaryDto;
 import com.example.listapp.entity.Item;
 
-public interface ItemRepository extends JpaRepository<Item, UUID> {
+import jakarta.persistence.QueryHint;
 
-    /**
-     * Retrieves all Items for a specified list, sorted ascending.
-     * @param listId ID of the list to retrieve items for.
-     * @return the sorted list of items.
-     */
-    List<Item> findAllByListIdOrderByPositionAsc(UUID listId);
+public interface ItemRepository
+    extends JpaRepository<Item, UUID>, ItemFieldRepository,
+    ItemChangeRepository, ItemCacheRepository {
 
     /**
      * Security method to find a specific item and verify its ownership.
@@ -26,9 +31,361 @@ public interface ItemRepository extends JpaRepository<Item, UUID> {
     Optional<Item> findByIdAndListId(UUID itemId, UUID listId);
 
     /**
-     * Bulk operation to retrieve the amount of items on a specifc list.
-     * @param listId ID of the list to retrieve the number for.
-     * @return an integer representing the amount of items.
+     * Security method to check whether an item is part of a list belonging
+     * to a specific user, in a single query and without loading either.
+     * @param itemId ID of the item to perform the check on.
+     * @param listId ID of the list in question.
+     * @param ownerId ID of the user in question.
+     * @return if the item is part of the list and the list belongs to the user.
+     */
+    @Query(value = """
+        SELECT EXISTS (
+            SELECT 1
+            FROM list_items li
+            JOIN lists l ON l.id = li.list_id
+            WHERE li.id = :itemId
+              AND li.list_id = :listId
+              AND li.deleted = false
+              AND l.owner_id = :ownerId
+              AND l.deleted = false
+        )
+        """, nativeQuery = true)
+    boolean existsByIdAndListIdAndOwnerId(
+        @Param("itemId") UUID itemId,
+        @Param("listId") UUID listId,
+        @Param("ownerId") UUID ownerId
+    );
+
+    /**
+     * Retrieves the items of a list that follow a given key, in ascending
+     * order of their keys.
+     * @param listId ID of the list to retrieve items for.
+     * @param afterPosition the key to continue after, exclusive.
+     * @param limit maximum amount of items to return.
+     * @return the items within the window.
+     */
+    @Query("""
+        SELECT new com.example.listapp.dto.item.ItemSummaryDto(
+          i.id, i.title, i.notes, i.position, i.imagePath)
+        FROM Item i
+        WHERE i.list.id = :listId AND i.position > :afterPosition
+        ORDER BY i.position
+        LIMIT :limit
+        """)
+    List<ItemSummaryDto> findWindowByListId(
+        @Param("listId") UUID listId,
+        @Param("afterPosition") long afterPosition,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Streams all items of a list in ascending order of their keys.
+     * Rows are fetched from the database in batches while the stream is
+     * consumed, so the stream has to be closed within a transaction.
+     * @param listId ID of the list to stream items for.
+     * @return the items of the list.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE,
+        value = "500"))
+    @Query("""
+        SELECT new com.example.listapp.dto.item.ItemSummaryDto(
+          i.id, i.title, i.notes, i.position, i.imagePath)
+        FROM Item i
+        WHERE i.list.id = :listId
+        ORDER BY i.position
+        """)
+    Stream<ItemSummaryDto> streamSummariesByListId(
+        @Param("listId") UUID listId);
+
+    /**
+     * Retrieves the position key of a specific item within a list.
+     * @param itemId ID of the item to retrieve the key for.
+     * @param listId ID of the list the item has to belong to.
+     * @return the key if the item exists within the list.
+     */
+    @Query("SELECT i.position FROM Item i "
+        + "WHERE i.id = :itemId AND i.list.id = :listId")
+    Optional<Long> findPositionByIdAndListId(
+        @Param("itemId") UUID itemId,
+        @Param("listId") UUID listId
+    );
+
+    /**
+     * Retrieves the closest key below a given key, ignoring one item.
+     * @param listId ID of the list to search in.
+     * @param position the key to search below.
+     * @param excludedId ID of the item to ignore.
+     * @return the closest lower key, or null if there is none.
+     */
+    @Query("SELECT MAX(i.position) FROM Item i WHERE i.list.id = :listId "
+        + "AND i.position < :position AND i.id <> :excludedId")
+    Long findPreviousPosition(
+        @Param("listId") UUID listId,
+        @Param("position") long position,
+        @Param("excludedId") UUID excludedId
+    );
+
+    /**
+     * Retrieves the closest key above a given key, ignoring one item.
+     * @param listId ID of the list to search in.
+     * @param position the key to search above.
+     * @param excludedId ID of the item to ignore.
+     * @return the closest higher key, or null if there is none.
+     */
+    @Query("SELECT MIN(i.position) FROM Item i WHERE i.list.id = :listId "
+        + "AND i.position > :position AND i.id <> :excludedId")
+    Long findNextPosition(
+        @Param("listId") UUID listId,
+        @Param("position") long position,
+        @Param("excludedId") UUID excludedId
+    );
+
+    /**
+     * Retrieves a window of position keys of a list in ascending order.
+     * @param listId ID of the list to retrieve the keys for.
+     * @param offset amount of leading keys to skip.
+     * @param limit maximum amount of keys to return.
+     * @return the keys within the window.
+     */
+    @Query("SELECT i.position FROM Item i WHERE i.list.id = :listId "
+        + "ORDER BY i.position LIMIT :limit OFFSET :offset")
+    List<Long> findPositionsByListId(
+        @Param("listId") UUID listId,
+        @Param("offset") int offset,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Retrieves the highest key of the live items of a list.
+     * @param listId ID of the list to retrieve the key for.
+     * @return the highest key, or null if the list has no items.
+     */
+    @Query("SELECT MAX(i.position) FROM Item i WHERE i.list.id = :listId")
+    Long findLastPosition(@Param("listId") UUID listId);
+
+    /**
+     * Assigns a new position key to a single item.
+     * The statement is synchronized with no table, so Hibernate keeps the
+     * second-level cache. Without the empty query space, Hibernate cannot
+     * tell which tables a native update touches and invalidates every
+     * entity and collection region on each call. The caller has to evict
+     * the item.
+     * @param itemId ID of the item to update.
+     * @param listId ID of the list the item has to belong to.
+     * @param position the new key of the item.
+     * @return the amount of updated items.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES,
+        value = ""))
+    @Query(value = "UPDATE list_items SET position = :position, "
+        + "version = version + 1, updated_at = now() "
+        + "WHERE id = :itemId AND list_id = :listId AND deleted = false",
+        nativeQuery = true)
+    int updatePosition(
+        @Param("itemId") UUID itemId,
+        @Param("listId") UUID listId,
+        @Param("position") long position
+    );
+
+    /**
+     * Soft-deletes a single item within a list.
+     * Like updatePosition, the statement is synchronized with no table, so
+     * the second-level cache is not invalidated as a whole. The caller has
+     * to evict the item.
+     * @param itemId ID of the item to delete.
+     * @param listId ID of the list the item has to belong to.
+     * @return the amount of deleted items.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES,
+        value = ""))
+    @Query(value = "UPDATE list_items SET deleted = true, "
+        + "version = version + 1, updated_at = now() "
+        + "WHERE id = :itemId AND list_id = :listId AND deleted = false",
+        nativeQuery = true)
+    int softDeleteByIdAndListId(
+        @Param("itemId") UUID itemId,
+        @Param("listId") UUID listId
+    );
+
+    /**
+     * Bulk operation to spread the keys of a list evenly again.
+     * @param listId ID of the list to renumber.
+     * @param gap distance between the keys of two consecutive items.
+     * @return the IDs of the updated items.
+     */
+    @Query(value = """
+        UPDATE list_items li
+        SET position = ranked.rn * :gap,
+          version = li.version + 1,
+          updated_at = now()
+        FROM (
+          SELECT id, row_number() OVER (ORDER BY position, id) AS rn
+          FROM list_items
+          WHERE list_id = :listId AND deleted = false
+        ) ranked
+        WHERE li.id = ranked.id
+          AND li.position <> ranked.rn * :gap
+        RETURNING li.id
+        """, nativeQuery = true)
+    List<UUID> renumber(
+        @Param("listId") UUID listId,
+        @Param("gap") long gap
+    );
+
+    /**
+     * Bulk operation to sort a list on the database.
+     * Items are ranked by the given key, ties keep their current order.
+     * Items already at their target key are left untouched.
+     * @param listId ID of the list to sort.
+     * @param sortKey the key to sort by, either title, createdAt or random.
+     * @param descending whether to sort in descending order.
+     * @param gap distance between the keys of two consecutive items.
+     * @return the IDs of the updated items.
+     */
+    @Query(value = """
+        UPDATE list_items li
+        SET position = ranked.rn * :gap,
+          version = li.version + 1,
+          updated_at = now()
+        FROM (
+          SELECT id, row_number() OVER (ORDER BY
+            CASE WHEN :sortKey = 'title' AND NOT :descending
+              THEN lower(title) END ASC,
+            CASE WHEN :sortKey = 'title' AND :descending
+              THEN lower(title) END DESC,
+            CASE WHEN :sortKey = 'createdAt' AND NOT :descending
+              THEN created_at END ASC,
+            CASE WHEN :sortKey = 'createdAt' AND :descending
+              THEN created_at END DESC,
+            CASE WHEN :sortKey = 'random' THEN random() END,
+            position, id
+          ) AS rn
+          FROM list_items
+          WHERE list_id = :listId AND deleted = false
+        ) ranked
+        WHERE li.id = ranked.id
+          AND li.position <> ranked.rn * :gap
+        RETURNING li.id
+        """, nativeQuery = true)
+    List<UUID> sort(
+        @Param("listId") UUID listId,
+        @Param("sortKey") String sortKey,
+        @Param("descending") boolean descending,
+        @Param("gap") long gap
+    );
+
+    /**
+     * Bulk operation to move items into another list.
+     * The items receive evenly spaced keys above a given key, in the order
+     * of the passed IDs. Items that are not part of the source list are
+     * left untouched.
+     * @param sourceListId ID of the list the items have to belong to.
+     * @param targetListId ID of the list to move the items to.
+     * @param itemIds IDs of the items to move, in their new order.
+     * @param lower the key after which the items are placed, exclusive.
+     * @param step distance between the keys of two moved items.
+     * @return the IDs of the moved items.
+     */
+    @Query(value = """
+        UPDATE list_items li
+        SET list_id = :targetListId,
+          position = :lower + r.ord * :step,
+          version = li.version + 1,
+          updated_at = now()
+        FROM unnest(CAST(:itemIds AS uuid[])) WITH ORDINALITY AS r(id, ord)
+        WHERE li.id = r.id
+          AND li.list_id = :sourceListId
+          AND li.deleted = false
+        RETURNING li.id
+        """, nativeQuery = true)
+    List<UUID> transfer(
+        @Param("sourceListId") UUID sourceListId,
+        @Param("targetListId") UUID targetListId,
+        @Param("itemIds") UUID[] itemIds,
+        @Param("lower") long lower,
+        @Param("step") long step
+    );
+
+    /**
+     * Retrieves live lists in which two neighbouring items are closer than a
+     * given distance, so that moves between them will soon need a renumber.
+     * Only lists with an item changed after a given time are inspected, as
+     * keys only move closer when items change.
+     * @param since the time after which a list has to have changed.
+     * @param minGap the smallest acceptable distance between two keys.
+     * @param limit the maximum amount of lists to return.
+     * @return the IDs of the fragmented lists.
+     */
+    @Query("""
+        SELECT DISTINCT g.listId FROM (
+          SELECT i.list.id AS listId, i.position - lag(i.position) OVER (
+            PARTITION BY i.list.id ORDER BY i.position
+          ) AS gap
+          FROM Item i JOIN i.list l
+          WHERE l.deleted = false
+            AND l.id IN (
+              SELECT c.list.id FROM Item c WHERE c.updatedAt >= :since
+            )
+        ) g
+        WHERE g.gap < :minGap
+        LIMIT :limit
+        """)
+    List<UUID> findFragmentedListIds(
+        @Param("since") Instant since,
+        @Param("minGap") long minGap,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Bulk operation to persist a full new order of a list.
+     * The order is only applied if it contains exactly the items of the
+     * list, which is checked within the same statement. Items already at
+     * their target key are left untouched.
+     * @param listId ID of the list to reorder.
+     * @param itemIds IDs of all items of the list in their new order,
+     *                packed as consecutive 16-byte values.
+     * @param gap distance between the keys of two consecutive items.
+     * @return the IDs of the updated items, or a single null if the order
+     *         is invalid.
      */
-    long countByListId(UUID listId);
+    @Query(value = """
+        WITH payload AS (
+          SELECT CAST(:itemIds AS bytea) AS ids
+        ), requested AS (
+          SELECT CAST(encode(substring(p.ids FROM (g.ord - 1) * 16 + 1
+              FOR 16), 'hex') AS uuid) AS id, g.ord
+          FROM payload p, generate_series(1, length(p.ids) / 16) AS g(ord)
+        ), current_items AS (
+          SELECT id FROM list_items
+          WHERE list_id = :listId AND deleted = false
+        ), validation AS (
+          SELECT (SELECT count(*) FROM current_items)
+              = (SELECT length(ids) / 16 FROM payload)
+            AND (SELECT count(*) FROM requested r
+              JOIN current_items c ON c.id = r.id)
+              = (SELECT length(ids) / 16 FROM payload) AS valid
+        ), updated AS (
+          UPDATE list_items li
+          SET position = r.ord * :gap,
+            version = li.version + 1,
+            updated_at = now()
+          FROM requested r, validation v
+          WHERE v.valid
+            AND li.id = r.id
+            AND li.list_id = :listId
+            AND li.deleted = false
+            AND li.position <> r.ord * :gap
+          RETURNING li.id
+        )
+        SELECT u.id FROM updated u
+        UNION ALL
+        SELECT NULL FROM validation v WHERE NOT v.valid
+        """, nativeQuery = true)
+    List<UUID> reorder(
+        @Param("listId") UUID listId,
+        @Param("itemIds") byte[] itemIds,
+        @Param("gap") long gap
+    );
 }
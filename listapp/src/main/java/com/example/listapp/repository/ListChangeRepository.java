@@ -0,0 +1,31 @@
+package com.example.listapp.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import com.example.listapp.dto.sync.ListChangeDto;
+
+public interface ListChangeRepository {
+
+    /**
+     * Retrieves the lists of a user that changed after a given list, in the
+     * order of their last update. Deleted lists are included, so clients
+     * learn about deletions as well.
+     * @param ownerId ID of the user to retrieve changes for.
+     * @param afterUpdatedAt time of the last update of the preceding list.
+     * @param afterId ID of the preceding list.
+     * @param settleTime age a change needs to reach by the clock of the
+     *                   database to be included.
+     * @param limit maximum amount of lists to return.
+     * @return the changed lists.
+     */
+    List<ListChangeDto> findChangesByOwnerId(
+        UUID ownerId,
+        Instant afterUpdatedAt,
+        UUID afterId,
+        Duration settleTime,
+        int limit
+    );
+}
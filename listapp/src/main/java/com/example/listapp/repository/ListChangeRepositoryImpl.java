@@ -0,0 +1,86 @@
+package com.example.listapp.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.query.NativeQuery;
+
+import com.example.listapp.dto.sync.ListChangeDto;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+
+/**
+ * Reads list changes straight from the table, as the entity mapping hides
+ * deleted lists.
+ */
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+public final class ListChangeRepositoryImpl implements ListChangeRepository {
+
+    /**
+     * Query for the changed lists of a user. The cursor is compared as a
+     * row, so the lists are read as a range of the index on
+     * (owner_id, updated_at, id). The upper bound is taken from the clock
+     * of the database, which stamps the rows.
+     */
+    private static final String CHANGES = """
+        SELECT id, title, description, updated_at, version, deleted
+        FROM lists
+        WHERE owner_id = :ownerId
+          AND (updated_at, id) > (:afterUpdatedAt, :afterId)
+          AND updated_at <= CURRENT_TIMESTAMP
+            - CAST(:settleMillis AS BIGINT) * INTERVAL '0.001' SECOND
+        ORDER BY updated_at, id
+        """;
+
+    /**
+     * Entity manager to run the queries with.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor for the ListChangeRepositoryImpl.
+     * @param entityManagerParam entity manager to run the queries with
+     */
+    public ListChangeRepositoryImpl(final EntityManager entityManagerParam) {
+        this.entityManager = entityManagerParam;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ListChangeDto> findChangesByOwnerId(
+        final UUID ownerId,
+        final Instant afterUpdatedAt,
+        final UUID afterId,
+        final Duration settleTime,
+        final int limit) {
+        NativeQuery<Tuple> query = entityManager
+            .createNativeQuery(CHANGES, Tuple.class)
+            .unwrap(NativeQuery.class)
+            .addScalar("id", UUID.class)
+            .addScalar("title", String.class)
+            .addScalar("description", String.class)
+            .addScalar("updated_at", Instant.class)
+            .addScalar("version", Long.class)
+            .addScalar("deleted", Boolean.class);
+
+        return query
+            .setParameter("ownerId", ownerId)
+            .setParameter("afterUpdatedAt", afterUpdatedAt)
+            .setParameter("afterId", afterId)
+            .setParameter("settleMillis", settleTime.toMillis())
+            .setMaxResults(limit)
+            .getResultList().stream()
+            .map(row -> new ListChangeDto(
+                row.get("id", UUID.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                row.get("updated_at", Instant.class),
+                row.get("version", Long.class),
+                row.get("deleted", Boolean.class)))
+            .toList();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.listapp.repository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import com.example.listapp.helper.ListField;
+
+public interface ListFieldRepository {
+
+    /**
+     * Retrieves selected fields of a list, provided it belongs to a specific
+     * user. Only the selected fields are read from the database.
+     * @param listId The ID of the list to fetch.
+     * @param ownerId The ID of the user the list has to belong to.
+     * @param fields the fields to retrieve in addition to the ID.
+     * @return the list as a map from field name to value, if owned by the
+     *         specified user.
+     */
+    Optional<Map<String, Object>> findFieldsByIdAndOwnerId(
+        UUID listId,
+        UUID ownerId,
+        Set<ListField> fields
+    );
+}
@@ -0,0 +1,80 @@
+package com.example.listapp.repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import com.example.listapp.helper.ListField;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+
+/**
+ * Builds list queries that only select the requested fields.
+ */
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+public final class ListFieldRepositoryImpl implements ListFieldRepository {
+
+    /**
+     * Entity manager to run the queries with.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor for the ListFieldRepositoryImpl.
+     * @param entityManagerParam entity manager to run the queries with
+     */
+    public ListFieldRepositoryImpl(final EntityManager entityManagerParam) {
+        this.entityManager = entityManagerParam;
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsByIdAndOwnerId(
+        final UUID listId,
+        final UUID ownerId,
+        final Set<ListField> fields) {
+        StringBuilder select = new StringBuilder("SELECT l.id");
+        for (ListField field : fields) {
+            if (field == ListField.OWNER) {
+                select.append(", o.id, o.name");
+            } else {
+                select.append(", ").append(field.getPath());
+            }
+        }
+        select.append(" FROM ListEntity l");
+        if (fields.contains(ListField.OWNER)) {
+            select.append(" JOIN l.owner o");
+        }
+        select.append(" WHERE l.id = :listId AND l.owner.id = :ownerId");
+
+        List<Tuple> result = entityManager
+            .createQuery(select.toString(), Tuple.class)
+            .setParameter("listId", listId)
+            .setParameter("ownerId", ownerId)
+            .getResultList();
+
+        if (result.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Tuple tuple = result.get(0);
+        Map<String, Object> list = new LinkedHashMap<>();
+        list.put("id", tuple.get(0));
+        int index = 1;
+        for (ListField field : fields) {
+            if (field == ListField.OWNER) {
+                Map<String, Object> owner = new LinkedHashMap<>();
+                owner.put("id", tuple.get(index++));
+                owner.put("name", tuple.get(index++));
+                list.put(field.getValue(), owner);
+            } else {
+                list.put(field.getValue(), tuple.get(index++));
+            }
+        }
+        return Optional.of(list);
+    }
+}
@@ -1,27 +1,244 @@
 package com.example.listapp.repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.listapp.dto.list.ListDetailRow;
+import com.example.listapp.dto.list.ListSummaryDto;
 import com.example.listapp.entity.ListEntity;
 
-public interface ListRepository extends JpaRepository<ListEntity, UUID> {
+public interface ListRepository
+    extends JpaRepository<ListEntity, UUID>, ListFieldRepository,
+    ListChangeRepository {
 
     /**
-     * Method to return all lists belonging to a specific user.
-     * @param ownerId ID of the user to fetch lists for.
-     * @return a list of lists.
+     * Method to return the first page of list summaries of a specific user.
+     * Items are only counted, never loaded.
+     * @param ownerId ID of the user to fetch list summaries for.
+     * @param limit the maximum amount of summaries to return.
+     * @return the summaries, most recently updated first.
      */
-    List<ListEntity> findAllByOwnerId(UUID ownerId);
+    @Query("""
+        SELECT new com.example.listapp.dto.list.ListSummaryDto(
+          l.id, l.title, l.description, l.updatedAt,
+          (SELECT COUNT(i) FROM Item i WHERE i.list = l))
+        FROM ListEntity l
+        WHERE l.owner.id = :ownerId
+        ORDER BY l.updatedAt DESC, l.id DESC
+        LIMIT :limit
+        """)
+    List<ListSummaryDto> findSummariesByOwnerId(
+        @Param("ownerId") UUID ownerId,
+        @Param("limit") int limit
+    );
 
     /**
-     * Method to return a specific list belonging to a specific user.
+     * Method to return the list summaries of a specific user that follow a
+     * given list in the overview order.
+     * Items are only counted, never loaded.
+     * @param ownerId ID of the user to fetch list summaries for.
+     * @param updatedAt time of the last update of the preceding list.
+     * @param id ID of the preceding list.
+     * @param limit the maximum amount of summaries to return.
+     * @return the summaries, most recently updated first.
+     */
+    @Query("""
+        SELECT new com.example.listapp.dto.list.ListSummaryDto(
+          l.id, l.title, l.description, l.updatedAt,
+          (SELECT COUNT(i) FROM Item i WHERE i.list = l))
+        FROM ListEntity l
+        WHERE l.owner.id = :ownerId
+          AND (l.updatedAt < :updatedAt
+            OR (l.updatedAt = :updatedAt AND l.id < :id))
+        ORDER BY l.updatedAt DESC, l.id DESC
+        LIMIT :limit
+        """)
+    List<ListSummaryDto> findSummariesByOwnerIdAfter(
+        @Param("ownerId") UUID ownerId,
+        @Param("updatedAt") Instant updatedAt,
+        @Param("id") UUID id,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Method to return a stamp that changes whenever the details of a list
+     * change, provided it belongs to a specific user. Nothing but versions,
+     * counts and update times is read.
+     * @param listId The ID of the list to compute the stamp for.
+     * @param ownerId The ID of the user the list has to belong to.
+     * @return the stamp, if the list is owned by the specified user.
+     */
+    @Query("""
+        SELECT CONCAT(str(l.version), ':', str(o.version), ':',
+          str(COUNT(i)), ':', str(COALESCE(SUM(i.version), 0)), ':',
+          COALESCE(str(MAX(i.updatedAt)), '-'))
+        FROM ListEntity l JOIN l.owner o LEFT JOIN l.items i
+        WHERE l.id = :listId AND l.owner.id = :ownerId
+        GROUP BY l.version, o.version
+        """)
+    Optional<String> findVersionStampByIdAndOwnerId(
+        @Param("listId") UUID listId,
+        @Param("ownerId") UUID ownerId
+    );
+
+    /**
+     * Method to return a stamp that changes whenever the summaries of the
+     * lists of a specific user change. Nothing but versions, counts and
+     * update times is read.
+     * @param ownerId The ID of the user to compute the stamp for.
+     * @return the stamp.
+     */
+    @Query("""
+        SELECT CONCAT(str(COUNT(DISTINCT l.id)), ':',
+          COALESCE(str(MAX(l.updatedAt)), '-'), ':',
+          str(COUNT(i)), ':', str(COALESCE(SUM(i.version), 0)), ':',
+          COALESCE(str(MAX(i.updatedAt)), '-'))
+        FROM ListEntity l LEFT JOIN l.items i
+        WHERE l.owner.id = :ownerId
+        """)
+    String findVersionStampByOwnerId(@Param("ownerId") UUID ownerId);
+
+    /**
+     * Security method to check whether a list belongs to a specific user,
+     * without loading the list.
      * @param listId The ID of the list to perform the check for.
      * @param ownerId The ID of the user to perform the check for.
-     * @return a list with specified id, belonging to the specified user.
+     * @return if a list with the ID exists and belongs to the user.
+     */
+    @Query(value = """
+        SELECT EXISTS (
+            SELECT 1 FROM lists
+            WHERE id = :listId
+              AND owner_id = :ownerId
+              AND deleted = false
+        )
+        """, nativeQuery = true)
+    boolean existsByIdAndOwnerId(
+        @Param("listId") UUID listId,
+        @Param("ownerId") UUID ownerId
+    );
+
+    /**
+     * Method to return a list with its owner, description and items in a
+     * single query, provided it belongs to a specific user. The list is
+     * read once, in a row of its own, instead of being repeated on the row
+     * of every item.
+     * @param listId The ID of the list to fetch.
+     * @param ownerId The ID of the user the list has to belong to.
+     * @return a row of the list without item fields, followed by one row
+     *         per item without list fields in ascending order of their keys.
+     *         Empty if the list does not exist or belongs to another user.
+     */
+    @Query("""
+        SELECT new com.example.listapp.dto.list.ListDetailRow(
+          r.id, r.title, r.description, r.createdAt, r.updatedAt, r.version,
+          r.ownerId, r.ownerName,
+          r.itemId, r.itemTitle, r.itemNotes, r.itemPosition, r.itemImagePath)
+        FROM (
+          SELECT l.id AS id, l.title AS title, l.description AS description,
+            l.createdAt AS createdAt, l.updatedAt AS updatedAt,
+            l.version AS version, o.id AS ownerId, o.name AS ownerName,
+            CAST(NULL AS java.util.UUID) AS itemId,
+            CAST(NULL AS String) AS itemTitle,
+            CAST(NULL AS String) AS itemNotes,
+            CAST(NULL AS Long) AS itemPosition,
+            CAST(NULL AS String) AS itemImagePath
+          FROM ListEntity l JOIN l.owner o
+          WHERE l.id = :listId AND o.id = :ownerId
+          UNION ALL
+          SELECT NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL,
+            i.id, i.title, i.notes, i.position, i.imagePath
+          FROM ListEntity l JOIN l.items i
+          WHERE l.id = :listId AND l.owner.id = :ownerId
+        ) r
+        ORDER BY r.itemPosition NULLS FIRST
+        """)
+    List<ListDetailRow> findDetailByIdAndOwnerId(
+        @Param("listId") UUID listId,
+        @Param("ownerId") UUID ownerId
+    );
+
+    /**
+     * Method to return a list with its owner, but without its items,
+     * provided it belongs to a specific user.
+     * @param listId The ID of the list to fetch.
+     * @param ownerId The ID of the user the list has to belong to.
+     * @return the list with its owner, if owned by the specified user.
+     */
+    @Query("""
+        SELECT l FROM ListEntity l
+        JOIN FETCH l.owner
+        WHERE l.id = :listId AND l.owner.id = :ownerId
+        """)
+    Optional<ListEntity> findHeaderByIdAndOwnerId(
+        @Param("listId") UUID listId,
+        @Param("ownerId") UUID ownerId
+    );
+
+    /**
+     * Locks the row of a list until the end of the current transaction.
+     * Writers that compute position keys from the keys of neighbouring items
+     * take this lock first, so concurrent writers of the same list run one
+     * after another and always read the keys left by the previous one.
+     * @param listId The ID of the list to lock.
+     * @return the position counter of the list, or empty if there is no
+     *         such list.
+     */
+    @Query(value = "SELECT next_position FROM lists "
+        + "WHERE id = :listId AND deleted = false FOR UPDATE",
+        nativeQuery = true)
+    Optional<Long> lockById(@Param("listId") UUID listId);
+
+    /**
+     * Locks the row of a list until the end of the current transaction,
+     * unless another transaction holds the lock already.
+     * Used by background work that should not wait for, or delay, the
+     * writers a user is waiting for.
+     * @param listId The ID of the list to lock.
+     * @return the position counter of the list, or empty if there is no
+     *         such list or it is locked.
+     */
+    @Query(value = "SELECT next_position FROM lists "
+        + "WHERE id = :listId AND deleted = false FOR UPDATE SKIP LOCKED",
+        nativeQuery = true)
+    Optional<Long> tryLockById(@Param("listId") UUID listId);
+
+    /**
+     * Atomically reserves the next position key of a list.
+     * Concurrent callers are serialized on the row of the list, so every
+     * caller receives a distinct key without scanning the items.
+     * @param listId The ID of the list to reserve a key for.
+     * @param gap The distance to the previously reserved key.
+     * @return the reserved key, or empty if the list does not exist.
+     */
+    @Transactional
+    @Query(value = "UPDATE lists SET next_position = next_position + :gap "
+        + "WHERE id = :listId AND deleted = false "
+        + "RETURNING next_position", nativeQuery = true)
+    Optional<Long> allocatePosition(
+        @Param("listId") UUID listId,
+        @Param("gap") long gap
+    );
+
+    /**
+     * Raises the position counter of a list above every key in use.
+     * Needed after bulk operations that assign keys without the counter.
+     * Cached lists stay valid, as the counter is only read and written by
+     * these statements.
+     * @param listId The ID of the list to update the counter for.
+     * @return the new counter, or empty if there is no such list.
      */
-    Optional<ListEntity> findByIdAndOwnerId(UUID listId, UUID ownerId);
+    @Query(value = "UPDATE lists SET next_position = GREATEST(next_position, "
+        + "(SELECT COALESCE(MAX(position), 0) FROM list_items "
+        + "WHERE list_id = :listId)) "
+        + "WHERE id = :listId AND deleted = false "
+        + "RETURNING next_position", nativeQuery = true)
+    Optional<Long> syncNextPosition(@Param("listId") UUID listId);
 }
@@ -1,11 +1,15 @@
 package com.example.listapp.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.listapp.dto.user.UserListRow;
 import com.example.listapp.entity.User;
 
 @Repository
@@ -35,4 +39,41 @@ public interface UserRepository extends JpaRepository<User, UUID> {
         String provider,
         String sub
     );
+
+    /**
+     * Method to return a user together with the summaries of their lists in
+     * a single query. Items are only counted, never loaded.
+     * @param userId the ID of the user to fetch.
+     * @return one row per list, most recently updated first, or a single
+     *         row without list fields if the user has no lists. Empty if
+     *         the user does not exist.
+     */
+    @Query("""
+        SELECT new com.example.listapp.dto.user.UserListRow(
+          u.id, u.name, u.email, u.createdAt, u.updatedAt, u.version,
+          l.id, l.title, l.description, l.updatedAt,
+          (SELECT COUNT(i) FROM Item i WHERE i.list = l))
+        FROM User u LEFT JOIN u.lists l
+        WHERE u.id = :userId
+        ORDER BY l.updatedAt DESC, l.id DESC
+        """)
+    List<UserListRow> findWithListSummariesById(@Param("userId") UUID userId);
+
+    /**
+     * Method to return a stamp that changes whenever a user or the
+     * summaries of their lists change. Nothing but versions, counts and
+     * update times is read.
+     * @param userId the ID of the user to compute the stamp for.
+     * @return the stamp, if the user exists.
+     */
+    @Query("""
+        SELECT CONCAT(str(u.version), ':', str(COUNT(DISTINCT l.id)), ':',
+          COALESCE(str(MAX(l.updatedAt)), '-'), ':',
+          str(COUNT(i)), ':', str(COALESCE(SUM(i.version), 0)), ':',
+          COALESCE(str(MAX(i.updatedAt)), '-'))
+        FROM User u LEFT JOIN u.lists l LEFT JOIN l.items i
+        WHERE u.id = :userId
+        GROUP BY u.version
+        """)
+    Optional<String> findVersionStampById(@Param("userId") UUID userId);
 }
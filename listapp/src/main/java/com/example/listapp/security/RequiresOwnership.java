@@ -0,0 +1,34 @@
+package com.example.listapp.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Restricts a handler method to the owner of the list addressed by its path.
+ * If an item variable is named, the item has to belong to that list as well.
+ * Checked by the {@link OwnershipInterceptor} before the handler is invoked.
+ *
+ * Only path variables are available at that point, as the request body has
+ * not been read yet. Lists addressed by the body, like the target of a
+ * transfer, are checked with {@code @PreAuthorize} on the handler.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresOwnership {
+
+    /**
+     * Name of the path variable holding the list ID.
+     * @return the name of the variable.
+     */
+    String list() default "listId";
+
+    /**
+     * Name of the path variable holding the item ID.
+     * @return the name of the variable, empty if no item is addressed.
+     */
+    String item() default "";
+}
@@ -0,0 +1,104 @@
+package com.example.listapp.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.listapp.repository.ItemRepository;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background job renumbering lists whose position keys ran out of room.
+ *
+ * Moves keep assigning keys between their neighbours, so repeated moves
+ * into the same spot shrink the gaps until a move has to renumber the list
+ * on the request path. This job renumbers such lists ahead of time.
+ * Only lists changed within the lookback are inspected. The lookback
+ * overlaps the interval between runs, so lists changed by transactions
+ * that were still open during the previous run are not missed.
+ * Lists are renumbered under the same lock that moves take. Lists whose
+ * lock is held by a user's write are skipped until a later run.
+ */
+@Service
+@Slf4j
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+@ConditionalOnProperty(name = "listapp.items.rebalance.enabled",
+    havingValue = "true", matchIfMissing = true)
+public class ItemRebalancer {
+
+    /**
+     * Repository containing the item data.
+     */
+    private final ItemRepository itemRepository;
+
+    /**
+     * Service renumbering a single list within its own transaction.
+     */
+    private final ItemService itemService;
+
+    /**
+     * Distance between two keys below which a list is renumbered.
+     */
+    private final long minGap;
+
+    /**
+     * Maximum amount of lists renumbered per run.
+     */
+    private final int batchSize;
+
+    /**
+     * How far back a list has to have changed to be inspected.
+     */
+    private final Duration lookback;
+
+    /**
+     * Constructor for the ItemRebalancer.
+     * @param itemRepositoryParam repository containing the item data
+     * @param itemServiceParam service renumbering a single list
+     * @param minGapParam distance below which a list is renumbered
+     * @param batchSizeParam maximum amount of lists per run
+     * @param lookbackParam how far back a list has to have changed
+     */
+    public ItemRebalancer(
+        final ItemRepository itemRepositoryParam,
+        final ItemService itemServiceParam,
+        @Value("${listapp.items.rebalance.min-gap:64}")
+        final long minGapParam,
+        @Value("${listapp.items.rebalance.batch-size:50}")
+        final int batchSizeParam,
+        @Value("${listapp.items.rebalance.lookback:PT15M}")
+        final Duration lookbackParam) {
+        this.itemRepository = itemRepositoryParam;
+        this.itemService = itemServiceParam;
+        this.minGap = minGapParam;
+        this.batchSize = batchSizeParam;
+        this.lookback = lookbackParam;
+    }
+
+    /**
+     * Renumbers a batch of fragmented lists, one transaction per list.
+     */
+    @Scheduled(
+        fixedDelayString = "${listapp.items.rebalance.interval:PT5M}",
+        initialDelayString = "${listapp.items.rebalance.interval:PT5M}")
+    public void rebalance() {
+        List<UUID> listIds = itemRepository.findFragmentedListIds(
+            Instant.now().minus(lookback), minGap, batchSize);
+
+        for (UUID listId : listIds) {
+            itemService.rebalanceList(listId);
+        }
+
+        if (!listIds.isEmpty()) {
+            log.info("Rebalanced {} fragmented lists", listIds.size());
+        }
+    }
+}
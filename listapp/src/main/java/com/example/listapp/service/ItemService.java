@@ -1,23 +1,29 @@
 package com.example.listapp.service;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.listapp.dto.item.ItemCreateDto;
+import com.example.listapp.dto.item.ItemFieldsPageDto;
+import com.example.listapp.dto.item.ItemMoveDto;
+import com.example.listapp.dto.item.ItemPageDto;
 import com.example.listapp.dto.item.ItemReorderDto;
+import com.example.listapp.dto.item.ItemSummaryDto;
 import com.example.listapp.dto.item.ItemUpdateDto;
 import com.example.listapp.entity.Item;
-import com.example.listapp.entity.ListEntity;
 import com.example.listapp.exception.custom.InvalidInputException;
 import com.example.listapp.exception.custom.ResourceNotFoundException;
+import com.example.listapp.helper.ItemField;
+import com.example.listapp.helper.ItemSortField;
+import com.example.listapp.helper.PackedUuids;
+import com.example.listapp.helper.Positions;
 import com.example.listapp.mapper.ItemMapper;
 import com.example.listapp.repository.ItemRepository;
 import com.example.listapp.repository.ListRepository;
@@ -30,6 +36,16 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ItemService {
 
+    /**
+     * Sort key used to shuffle a list.
+     */
+    private static final String SHUFFLE_KEY = "random";
+
+    /**
+     * Largest amount of items returned in a single window.
+     */
+    public static final int MAX_WINDOW_SIZE = 500;
+
     /**
      * Repository containing the item data.
      */
@@ -45,6 +61,71 @@ public class ItemService {
      */
     private final ItemMapper itemMapper;
 
+    /**
+     * Retrieves a window of consecutive items of a list.
+     * @param listId The ID of the list to retrieve items for.
+     * @param afterPosition The position to continue after, or null to start
+     *                      at the beginning of the list.
+     * @param limit The maximum amount of items to return.
+     * @return The window of items.
+     */
+    @Transactional(readOnly = true)
+    public ItemPageDto getItems(
+        final UUID listId,
+        final Long afterPosition,
+        final int limit) {
+        validateWindowSize(limit);
+
+        List<ItemSummaryDto> items = itemRepository.findWindowByListId(
+            listId, startOf(afterPosition), limit + 1);
+
+        if (items.size() <= limit) {
+            return new ItemPageDto(items, null);
+        }
+
+        List<ItemSummaryDto> window = items.subList(0, limit);
+        return new ItemPageDto(window, window.get(limit - 1).position());
+    }
+
+    /**
+     * Retrieves a window of consecutive items of a list, limited to selected
+     * fields.
+     * @param listId The ID of the list to retrieve items for.
+     * @param afterPosition The position to continue after, or null to start
+     *                      at the beginning of the list.
+     * @param limit The maximum amount of items to return.
+     * @param fields The names of the fields to return, separated by commas.
+     * @return The window of items.
+     */
+    @Transactional(readOnly = true)
+    public ItemFieldsPageDto getItemFields(
+        final UUID listId,
+        final Long afterPosition,
+        final int limit,
+        final String fields) {
+        validateWindowSize(limit);
+
+        Set<ItemField> requested = ItemField.parse(fields);
+        Set<ItemField> selected = EnumSet.copyOf(requested);
+        selected.add(ItemField.POSITION);
+
+        List<Map<String, Object>> items = itemRepository.findFieldsByListId(
+            listId, selected, startOf(afterPosition), limit + 1);
+
+        Long nextAfterPosition = null;
+        if (items.size() > limit) {
+            items = items.subList(0, limit);
+            nextAfterPosition = (Long) items.get(limit - 1)
+                .get(ItemField.POSITION.getValue());
+        }
+
+        if (!requested.contains(ItemField.POSITION)) {
+            items.forEach(item -> item.remove(ItemField.POSITION.getValue()));
+        }
+
+        return new ItemFieldsPageDto(items, nextAfterPosition);
+    }
+
     /**
      * Creates a new item.
      * @param listId The ID of the list to create an item for.
@@ -53,16 +134,14 @@ public class ItemService {
      */
     @Transactional
     public UUID createItem(final UUID listId, final ItemCreateDto dto) {
-        ListEntity list = listRepository.findById(listId)
+        long position = listRepository
+            .allocatePosition(listId, Positions.GAP)
             .orElseThrow(()
                 -> new ResourceNotFoundException("List", listId.toString()));
 
         Item createdEntity = itemMapper.toEntity(dto);
-        createdEntity.setList(list);
-
-        int nextPosition =
-            Math.max(0, (int) itemRepository.countByListId(listId));
-        createdEntity.setPosition(nextPosition);
+        createdEntity.setList(listRepository.getReferenceById(listId));
+        createdEntity.setPosition(position);
 
         Item savedEntity = itemRepository.save(createdEntity);
         log.info("Created item with id: {} in list: {}",
@@ -104,56 +183,203 @@ public class ItemService {
      */
     @Transactional
     public void reorderItems(final UUID listId, final ItemReorderDto dto) {
-        List<UUID> newOrder = dto.itemOrder();
+        reorderItems(listId, PackedUuids.pack(dto.itemOrder()));
+    }
 
-        if (newOrder == null || newOrder.isEmpty()) {
+    /**
+     * Updates the order of items from a packed array of item IDs.
+     * @param listId The ID of the list to perform reordering for.
+     * @param itemOrder The IDs of all items in their new order, packed as
+     *                  consecutive 16-byte values.
+     */
+    @Transactional
+    public void reorderItems(final UUID listId, final byte[] itemOrder) {
+        if (itemOrder == null || itemOrder.length == 0) {
             throw new InvalidInputException("Item order list cannot be empty");
         }
 
-        ListEntity list = listRepository.findById(listId)
-            .orElseThrow(()
-                -> new ResourceNotFoundException("List", listId.toString()));
+        if (!PackedUuids.isWellFormed(itemOrder)) {
+            throw new InvalidInputException(
+                "Item order has to consist of 16-byte item IDs");
+        }
 
-        Set<UUID> currentItemIds = list.getItems().stream()
-            .map(Item::getId)
-            .collect(Collectors.toSet());
+        if (PackedUuids.hasDuplicates(itemOrder)) {
+            throw new InvalidInputException(
+                "Item order contains duplicate IDs");
+        }
 
-        Set<UUID> requestedItemIds = new HashSet<>(newOrder);
+        lockList(listId);
 
-        if (!currentItemIds.equals(requestedItemIds)) {
-            log.warn(
-                "Item order mismatch for list {}. Current: {}, Requested: {}",
-                listId, currentItemIds, requestedItemIds);
+        int count = PackedUuids.count(itemOrder);
+        List<UUID> updated = itemRepository.reorder(
+            listId, itemOrder, Positions.GAP);
+
+        if (!updated.isEmpty() && updated.get(0) == null) {
+            log.warn("Item order mismatch for list {} with {} items",
+                listId, count);
             throw new InvalidInputException(
                 "Provided item order does not match the current items");
         }
 
-        if (newOrder.size() != requestedItemIds.size()) {
+        if (!updated.isEmpty()) {
+            itemRepository.evictItems(listId, updated);
+            listRepository.syncNextPosition(listId);
+        }
+
+        log.info("Reordered list: {}, updated {} of {} items",
+            listId, updated.size(), count);
+    }
+
+    /**
+     * Moves a single item next to one or both of its new neighbours.
+     * @param listId The ID of the list the item is associated to.
+     * @param dto The item to move and its new neighbours.
+     */
+    @Transactional
+    public void moveItem(final UUID listId, final ItemMoveDto dto) {
+        UUID itemId = dto.itemId();
+
+        if (dto.beforeId() == null && dto.afterId() == null) {
             throw new InvalidInputException(
-                "Item order contains duplicate IDs");
+                "Either beforeId or afterId has to be provided");
         }
 
-        List<Item> items = itemRepository.
-            findAllByListIdOrderByPositionAsc(listId);
+        if (itemId.equals(dto.beforeId()) || itemId.equals(dto.afterId())) {
+            throw new InvalidInputException(
+                "An item cannot be moved relative to itself");
+        }
 
-        Map<UUID, Item> itemById = items.stream()
-            .collect(Collectors.toMap(Item::getId, Function.identity()));
+        lockList(listId);
+        positionOf(listId, itemId);
 
-        for (int newPos = 0; newPos < newOrder.size(); newPos++) {
-            UUID itemId = newOrder.get(newPos);
-            Item item = itemById.get(itemId);
+        Long position = findSlot(listId, dto);
 
-            if (item == null) {
-                throw new InvalidInputException(
-                    String.format(
-                        "Invalid item ID in reorder request: %s", itemId));
-            }
+        if (position == null) {
+            renumberList(listId);
+            position = findSlot(listId, dto);
+        }
+
+        itemRepository.updatePosition(itemId, listId, position);
+        itemRepository.evictItems(listId, List.of(itemId));
+        listRepository.syncNextPosition(listId);
+        log.info("Moved item with id: {} in list: {}", itemId, listId);
+    }
 
-            item.setPosition(newPos);
+    /**
+     * Sorts the items of a list by one of their fields.
+     * @param listId The ID of the list to sort.
+     * @param by The name of the field to sort by.
+     * @param dir The direction to sort in, either asc or desc.
+     */
+    @Transactional
+    public void sortItems(
+        final UUID listId,
+        final String by,
+        final String dir) {
+        ItemSortField field = ItemSortField.fromValue(by);
+
+        boolean descending;
+        if ("asc".equalsIgnoreCase(dir)) {
+            descending = false;
+        } else if ("desc".equalsIgnoreCase(dir)) {
+            descending = true;
+        } else {
+            throw new InvalidInputException(
+                "Sort direction has to be asc or desc");
         }
 
-        itemRepository.saveAll(items);
-        log.info("Reordered {} items in list: {}", items.size(), listId);
+        applyOrder(listId, field.getValue(), descending);
+    }
+
+    /**
+     * Shuffles the items of a list.
+     * @param listId The ID of the list to shuffle.
+     */
+    @Transactional
+    public void shuffleItems(final UUID listId) {
+        applyOrder(listId, SHUFFLE_KEY, false);
+    }
+
+    /**
+     * Moves items from one list into another list.
+     * @param sourceListId The ID of the list the items belong to.
+     * @param targetListId The ID of the list to move the items to.
+     * @param itemIds The IDs of the items to move, in their new order.
+     * @param targetIndex The index within the target list to insert at.
+     */
+    @Transactional
+    public void moveItems(
+        final UUID sourceListId,
+        final UUID targetListId,
+        final List<UUID> itemIds,
+        final int targetIndex) {
+        if (itemIds == null || itemIds.isEmpty()) {
+            throw new InvalidInputException("Item list cannot be empty");
+        }
+
+        if (itemIds.size() != new HashSet<>(itemIds).size()) {
+            throw new InvalidInputException("Item list contains duplicate IDs");
+        }
+
+        if (sourceListId.equals(targetListId)) {
+            throw new InvalidInputException(
+                "Source and target list have to differ");
+        }
+
+        // Both lists are locked in the same order by every transfer, so two
+        // transfers in opposite directions cannot deadlock.
+        if (sourceListId.compareTo(targetListId) < 0) {
+            lockList(sourceListId);
+            lockList(targetListId);
+        } else {
+            lockList(targetListId);
+            lockList(sourceListId);
+        }
+
+        long[] range = findRange(targetListId, targetIndex, itemIds.size());
+
+        if (range == null) {
+            renumberList(targetListId);
+            range = findRange(targetListId, targetIndex, itemIds.size());
+        }
+
+        List<UUID> moved = itemRepository.transfer(sourceListId, targetListId,
+            itemIds.toArray(UUID[]::new), range[0], range[1]);
+
+        if (moved.size() != itemIds.size()) {
+            log.warn("Item transfer mismatch from list {}. Requested: {}",
+                sourceListId, itemIds);
+            throw new InvalidInputException(
+                "Provided items do not belong to the source list");
+        }
+
+        itemRepository.evictItems(sourceListId, moved);
+        itemRepository.evictItems(targetListId, List.of());
+
+        if (listRepository.syncNextPosition(targetListId).isEmpty()) {
+            throw new ResourceNotFoundException(
+                "List", targetListId.toString());
+        }
+
+        log.info("Moved {} items from list: {} to list: {}",
+            moved.size(), sourceListId, targetListId);
+    }
+
+    /**
+     * Spreads the position keys of a list evenly again, unless the list is
+     * being changed right now. A list that is skipped is picked up again by
+     * a later run.
+     * @param listId The ID of the list to rebalance.
+     * @return The amount of items that received a new key.
+     */
+    @Transactional
+    public int rebalanceList(final UUID listId) {
+        if (listRepository.tryLockById(listId).isEmpty()) {
+            log.info("Skipped rebalancing busy or deleted list: {}", listId);
+            return 0;
+        }
+
+        return renumberList(listId);
     }
 
     /**
@@ -163,29 +389,173 @@ public class ItemService {
      */
     @Transactional
     public void deleteItem(final UUID listId, final UUID id) {
-        Item entity = itemRepository.findByIdAndListId(id, listId)
-            .orElseThrow(()
-                -> new ResourceNotFoundException("Item", id.toString()));
+        if (itemRepository.softDeleteByIdAndListId(id, listId) == 0) {
+            throw new ResourceNotFoundException("Item", id.toString());
+        }
+
+        itemRepository.evictItems(listId, List.of(id));
+
+        log.info("Deleted items with id: {} from list: {}", id, listId);
+    }
+
+    /**
+     * Checks that a requested window size is within the supported range.
+     * @param limit The requested maximum amount of items.
+     */
+    private static void validateWindowSize(final int limit) {
+        if (limit < 1 || limit > MAX_WINDOW_SIZE) {
+            throw new InvalidInputException(
+                "Limit has to be between 1 and " + MAX_WINDOW_SIZE);
+        }
+    }
+
+    /**
+     * Resolves the key a window starts after.
+     * @param afterPosition The requested key, or null for the start.
+     * @return the key to continue after.
+     */
+    private static long startOf(final Long afterPosition) {
+        if (afterPosition == null) {
+            return Positions.START;
+        }
+        return afterPosition;
+    }
+
+    /**
+     * Spreads the position keys of a list evenly again. The caller has to
+     * hold the lock of the list.
+     * @param listId The ID of the list to renumber.
+     * @return The amount of items that received a new key.
+     */
+    private int renumberList(final UUID listId) {
+        List<UUID> renumbered = itemRepository.renumber(listId, Positions.GAP);
+        log.info("Renumbered {} items in list: {}", renumbered.size(), listId);
+
+        if (!renumbered.isEmpty()) {
+            itemRepository.evictItems(listId, renumbered);
+            listRepository.syncNextPosition(listId);
+        }
+
+        return renumbered.size();
+    }
+
+    /**
+     * Renumbers a list in the order given by a sort key.
+     * @param listId The ID of the list to renumber.
+     * @param sortKey The key to sort by.
+     * @param descending Whether to sort in descending order.
+     */
+    private void applyOrder(
+        final UUID listId,
+        final String sortKey,
+        final boolean descending) {
+        lockList(listId);
+
+        List<UUID> updated = itemRepository.sort(
+            listId, sortKey, descending, Positions.GAP);
 
-        entity.markAsDeleted();
-        itemRepository.save(entity);
+        if (!updated.isEmpty()) {
+            itemRepository.evictItems(listId, updated);
+            listRepository.syncNextPosition(listId);
+        }
+
+        log.info("Sorted list: {} by {}, updated {} items",
+            listId, sortKey, updated.size());
+    }
+
+    /**
+     * Locks a list against concurrent changes of its order until the end of
+     * the transaction. Has to precede every read of keys that a new key is
+     * computed from, otherwise two writers can compute the same key.
+     * @param listId The ID of the list to lock.
+     */
+    private void lockList(final UUID listId) {
+        listRepository.lockById(listId)
+            .orElseThrow(()
+                -> new ResourceNotFoundException("List", listId.toString()));
+    }
 
-        List<Item> remainingItems = itemRepository.
-            findAllByListIdOrderByPositionAsc(listId);
-        for (int i = 0; i < remainingItems.size(); i++) {
-            Item item = remainingItems.get(i);
-            if (item.getPosition() != i) {
-                item.setPosition(i);
+    /**
+     * Computes a free key between the requested neighbours of an item.
+     * @param listId The ID of the list the item is associated to.
+     * @param dto The item to move and its new neighbours.
+     * @return the free key, or null if the neighbours are adjacent.
+     */
+    private Long findSlot(final UUID listId, final ItemMoveDto dto) {
+        long lower;
+        Long upper;
+
+        if (dto.afterId() != null) {
+            lower = positionOf(listId, dto.afterId());
+            if (dto.beforeId() != null) {
+                upper = positionOf(listId, dto.beforeId());
+            } else {
+                upper = itemRepository.findNextPosition(
+                    listId, lower, dto.itemId());
             }
+        } else {
+            upper = positionOf(listId, dto.beforeId());
+            Long previous = itemRepository.findPreviousPosition(
+                listId, upper, dto.itemId());
+            lower = previous != null ? previous : Positions.START;
         }
 
-        if (!remainingItems.isEmpty()) {
-            itemRepository.saveAll(remainingItems.stream()
-                .filter(item
-                    -> item.getPosition() != remainingItems.indexOf(item))
-                .toList());
+        if (upper != null && lower >= upper) {
+            throw new InvalidInputException(
+                "The item after which to move has to precede the item "
+                + "before which to move");
         }
 
-        log.info("Deleted items with id: {} from list: {}", id, listId);
+        long[] keys = Positions.between(lower, upper, 1);
+        return keys != null ? keys[0] : null;
+    }
+
+    /**
+     * Computes where a run of items can be inserted at a given index.
+     * @param listId The ID of the list to insert into.
+     * @param index The index of the first inserted item.
+     * @param count The amount of items to insert.
+     * @return the key before the run and the distance between the keys of
+     *         the run, or null if there is not enough room.
+     */
+    private long[] findRange(
+        final UUID listId,
+        final int index,
+        final int count) {
+        long lower;
+        Long upper;
+
+        if (index == 0) {
+            List<Long> window = itemRepository.findPositionsByListId(
+                listId, 0, 1);
+            lower = Positions.START;
+            upper = window.isEmpty() ? null : window.get(0);
+        } else {
+            List<Long> window = itemRepository.findPositionsByListId(
+                listId, index - 1, 2);
+            if (window.isEmpty()) {
+                Long last = itemRepository.findLastPosition(listId);
+                lower = last != null ? last : Positions.START;
+                upper = null;
+            } else {
+                lower = window.get(0);
+                upper = window.size() > 1 ? window.get(1) : null;
+            }
+        }
+
+        long[] keys = Positions.between(lower, upper, count);
+        return keys != null ? new long[] {lower, keys[0] - lower} : null;
+    }
+
+    /**
+     * Retrieves the key of an item.
+     * @param listId The ID of the list the item is associated to.
+     * @param itemId The ID of the item.
+     * @return the key of the item.
+     */
+    private long positionOf(final UUID listId, final UUID itemId) {
+        return itemRepository.findPositionByIdAndListId(itemId, listId)
+            .orElseThrow(()
+                -> new ResourceNotFoundException("Item", itemId.toString()));
     }
 }
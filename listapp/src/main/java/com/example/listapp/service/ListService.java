@@ -1,36 +1,65 @@
 package com.example.listapp.service;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.listapp.dto.list.ListCreateDto;
+import com.example.listapp.dto.list.ListDetailRow;
 import com.example.listapp.dto.list.ListResponseDto;
+import com.example.listapp.dto.list.ListSummaryDto;
+import com.example.listapp.dto.list.ListSummaryPageDto;
 import com.example.listapp.dto.list.ListUpdateDto;
 import com.example.listapp.entity.ListEntity;
 import com.example.listapp.entity.User;
 import com.example.listapp.exception.custom.AccessDeniedException;
+import com.example.listapp.exception.custom.InvalidInputException;
 import com.example.listapp.exception.custom.ResourceNotFoundException;
+import com.example.listapp.helper.ETags;
+import com.example.listapp.helper.ItemField;
+import com.example.listapp.helper.ListCursor;
+import com.example.listapp.helper.ListField;
 import com.example.listapp.mapper.ListMapper;
+import com.example.listapp.repository.ItemRepository;
 import com.example.listapp.repository.ListRepository;
 import com.example.listapp.security.SecurityUtil;
+import com.example.listapp.service.security.OwnershipCache;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@SuppressFBWarnings("EI_EXPOSE_REP2")
 public class ListService {
 
+    /**
+     * Largest amount of list summaries returned in a single page.
+     */
+    public static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * Name of the field holding the items of a list.
+     */
+    private static final String ITEMS_FIELD = "items";
+
     /**
      * Repository containing list data.
      */
     private final ListRepository listRepository;
 
+    /**
+     * Repository containing item data.
+     */
+    private final ItemRepository itemRepository;
+
     /**
      * Mapper for lists.
      */
@@ -42,37 +71,160 @@ public class ListService {
     private final SecurityUtil securityUtil;
 
     /**
-     * Retrieves all lists associated with the authenticated user.
-     * @return a list of lists.
+     * Cache of confirmed list ownerships.
+     */
+    private final OwnershipCache ownershipCache;
+
+    /**
+     * Retrieves a page of list summaries of the authenticated user.
+     * @param cursor cursor returned with the previous page, or null for the
+     *               first page.
+     * @param limit the maximum amount of summaries to return.
+     * @return the page of list summaries.
      */
     @Transactional(readOnly = true)
-    public List<ListResponseDto> getAllUserLists() {
+    public ListSummaryPageDto getUserLists(
+        final String cursor,
+        final int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidInputException(
+                "Limit has to be between 1 and " + MAX_PAGE_SIZE);
+        }
+
         UUID ownerId = securityUtil.getCurrentUser().getId();
-        List<ListEntity> entityList = listRepository.findAllByOwnerId(ownerId);
 
-        List<ListResponseDto> dtoList = entityList.stream()
-            .map(entity -> listMapper.toResponseDto(entity))
-            .collect(Collectors.toList());
+        List<ListSummaryDto> summaries;
+        if (cursor == null) {
+            summaries = listRepository.findSummariesByOwnerId(
+                ownerId, limit + 1);
+        } else {
+            ListCursor after = ListCursor.decode(cursor);
+            summaries = listRepository.findSummariesByOwnerIdAfter(
+                ownerId, after.updatedAt(), after.id(), limit + 1);
+        }
+
+        if (summaries.size() <= limit) {
+            return new ListSummaryPageDto(summaries, null);
+        }
+
+        List<ListSummaryDto> page = summaries.subList(0, limit);
+        ListSummaryDto last = page.get(limit - 1);
+        String nextCursor =
+            new ListCursor(last.updatedAt(), last.id()).encode();
+        return new ListSummaryPageDto(page, nextCursor);
+    }
+
+    /**
+     * Computes the weak entity tag of a page of list summaries of the
+     * authenticated user, without reading the summaries themselves.
+     * @param cursor cursor returned with the previous page, or null for the
+     *               first page.
+     * @param limit the maximum amount of summaries to return.
+     * @return the entity tag.
+     */
+    @Transactional(readOnly = true)
+    public String getUserListsETag(final String cursor, final int limit) {
+        UUID ownerId = securityUtil.getCurrentUser().getId();
+        String stamp = listRepository.findVersionStampByOwnerId(ownerId);
+        return ETags.weak(stamp + ":" + cursor + ":" + limit);
+    }
 
-        return dtoList;
+    /**
+     * Computes the entity tag of a specific list of the authenticated user,
+     * without loading the list or its items.
+     * Lists of other users are reported as not found.
+     * @param id The ID of the list to compute the tag for.
+     * @return the entity tag.
+     */
+    @Transactional(readOnly = true)
+    public String getListETag(final UUID id) {
+        UUID ownerId = securityUtil.getCurrentUser().getId();
+        return listRepository.findVersionStampByIdAndOwnerId(id, ownerId)
+            .map(ETags::strong)
+            .orElseThrow(()
+                -> new ResourceNotFoundException("List", id.toString()));
     }
 
     /**
-     * Retrieves a specific list.
+     * Retrieves a specific list of the authenticated user with its items in
+     * order.
+     * Lists of other users are reported as not found.
      * @param id The ID of the list to be retrieved.
      * @return The List with the specified ID.
      */
     @Transactional(readOnly = true)
     public ListResponseDto getListById(final UUID id) {
-        ListEntity entity = listRepository.findById(id)
+        UUID ownerId = securityUtil.getCurrentUser().getId();
+        List<ListDetailRow> rows =
+            listRepository.findDetailByIdAndOwnerId(id, ownerId);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("List", id.toString());
+        }
+
+        return listMapper.toResponseDto(rows);
+    }
+
+    /**
+     * Retrieves selected fields of a specific list of the authenticated user.
+     * Items are included if items or any items.field is requested.
+     * Lists of other users are reported as not found.
+     * @param id The ID of the list to be retrieved.
+     * @param fields The names of the fields to return, separated by commas.
+     * @return The list as a map from field name to value.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getListFieldsById(
+        final UUID id,
+        final String fields) {
+        Set<ListField> listFields = EnumSet.noneOf(ListField.class);
+        Set<ItemField> itemFields = EnumSet.noneOf(ItemField.class);
+        boolean includeItems = false;
+
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (ITEMS_FIELD.equals(name)) {
+                includeItems = true;
+                itemFields.addAll(EnumSet.allOf(ItemField.class));
+            } else if (name.startsWith(ITEMS_FIELD + ".")) {
+                includeItems = true;
+                itemFields.add(ItemField.fromValue(
+                    name.substring(ITEMS_FIELD.length() + 1)));
+            } else {
+                listFields.add(ListField.fromValue(name));
+            }
+        }
+
+        UUID ownerId = securityUtil.getCurrentUser().getId();
+        Map<String, Object> list = listRepository
+            .findFieldsByIdAndOwnerId(id, ownerId, listFields)
             .orElseThrow(()
                 -> new ResourceNotFoundException("List", id.toString()));
 
-        validateOwnership(entity);
+        if (includeItems) {
+            list.put(ITEMS_FIELD,
+                itemRepository.findFieldsByListId(id, itemFields));
+        }
+
+        return list;
+    }
 
-        ListResponseDto response = listMapper.toResponseDto(entity);
+    /**
+     * Retrieves a specific list of the authenticated user without its items.
+     * Lists of other users are reported as not found.
+     * @param id The ID of the list to be retrieved.
+     * @return The List with the specified ID and no items.
+     */
+    @Transactional(readOnly = true)
+    public ListResponseDto getListHeaderById(final UUID id) {
+        UUID ownerId = securityUtil.getCurrentUser().getId();
+        ListEntity entity = listRepository.findHeaderByIdAndOwnerId(id, ownerId)
+            .orElseThrow(()
+                -> new ResourceNotFoundException("List", id.toString()));
 
-        return response;
+        return listMapper.toHeaderDto(entity);
     }
 
     /**
@@ -106,6 +258,7 @@ public class ListService {
     @Transactional
     public UUID updateList(final UUID id, final ListUpdateDto dto) {
         ListEntity entityToUpdate = listRepository.findById(id)
+            .filter(list -> !list.isDeleted())
             .orElseThrow(()
                 -> new ResourceNotFoundException("List", id.toString()));
 
@@ -127,6 +280,7 @@ public class ListService {
     @Transactional
     public void deleteList(final UUID id) {
         ListEntity entity = listRepository.findById(id)
+            .filter(list -> !list.isDeleted())
             .orElseThrow(()
                 -> new ResourceNotFoundException("List", id.toString()));
 
@@ -134,6 +288,7 @@ public class ListService {
 
         entity.markAsDeleted();
         listRepository.save(entity);
+        ownershipCache.invalidateAfterCommit(entity.getOwner().getId(), id);
         log.info("Soft deleted list with id: {}", id);
     }
 
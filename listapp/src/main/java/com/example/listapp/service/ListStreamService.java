@@ -0,0 +1,100 @@
+package com.example.listapp.service;
+
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.listapp.dto.item.ItemSummaryDto;
+import com.example.listapp.dto.list.ListResponseDto;
+import com.example.listapp.repository.ItemRepository;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Writes the details of a list as JSON while its items are still being
+ * read from the database.
+ *
+ * The output has the same shape as a serialized ListResponseDto, but items
+ * are written one at a time, so the memory used per request does not grow
+ * with the size of the list.
+ */
+@Service
+@Slf4j
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+public class ListStreamService {
+
+    /**
+     * Name of the property holding the items of a list.
+     */
+    private static final String ITEMS = "items";
+
+    /**
+     * Repository containing the item data.
+     */
+    private final ItemRepository itemRepository;
+
+    /**
+     * Mapper used to serialize the response.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor for the ListStreamService.
+     * @param itemRepositoryParam repository containing the item data
+     * @param objectMapperParam mapper used to serialize the response
+     */
+    public ListStreamService(
+        final ItemRepository itemRepositoryParam,
+        final ObjectMapper objectMapperParam) {
+        this.itemRepository = itemRepositoryParam;
+        this.objectMapper = objectMapperParam;
+    }
+
+    /**
+     * Writes a list and all of its items.
+     * @param header The list to write, without its items.
+     * @param out The stream to write the JSON to, left open afterwards.
+     */
+    @Transactional(readOnly = true)
+    public void writeList(
+        final ListResponseDto header,
+        final OutputStream out) {
+        JsonNode fields = objectMapper.valueToTree(header);
+        int written = 0;
+
+        try (JsonGenerator generator = objectMapper.writer()
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .createGenerator(out);
+             Stream<ItemSummaryDto> items =
+                itemRepository.streamSummariesByListId(header.id())) {
+            generator.writeStartObject();
+            for (Map.Entry<String, JsonNode> field : fields.properties()) {
+                if (!ITEMS.equals(field.getKey())) {
+                    generator.writeName(field.getKey());
+                    generator.writeTree(field.getValue());
+                }
+            }
+
+            generator.writeName(ITEMS);
+            generator.writeStartArray();
+            Iterator<ItemSummaryDto> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                generator.writePOJO(iterator.next());
+                written++;
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+
+        log.info("Streamed list: {} with {} items", header.id(), written);
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.listapp.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.listapp.dto.item.ItemReorderDto;
+import com.example.listapp.exception.custom.InternalServerException;
+import com.example.listapp.exception.custom.InvalidInputException;
+import com.example.listapp.helper.PackedUuids;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collapses bursts of full reorders for the same list into a single write.
+ *
+ * A reorder of a list that is not being written is applied right away, so
+ * a single drag never waits. Reorders arriving while a write of the same
+ * list is in progress are collected instead. Once that write has finished,
+ * and at least the window has passed since it started, only the latest
+ * collected order is written.
+ *
+ * Every caller receives the outcome of its own order. Callers whose order
+ * was replaced by a newer one succeed once the newer order is written. If
+ * the latest order is rejected as invalid, only its caller fails and the
+ * next older order of the batch is written instead.
+ */
+@Service
+@Slf4j
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+public class ReorderCoalescer {
+
+    /**
+     * Service applying the reorders.
+     */
+    private final ItemService itemService;
+
+    /**
+     * Minimum time between the starts of two writes of the same list.
+     */
+    private final Duration window;
+
+    /**
+     * Batches collecting reorders, keyed by the ID of their list.
+     */
+    private final ConcurrentMap<UUID, Batch> pending =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Batches being written, keyed by the ID of their list.
+     */
+    private final ConcurrentMap<UUID, Batch> running =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Counter of all submitted reorders.
+     */
+    private final Counter submitted;
+
+    /**
+     * Counter of reorders replaced by a newer reorder of their batch.
+     */
+    private final Counter absorbed;
+
+    /**
+     * Constructor for the ReorderCoalescer.
+     * @param itemServiceParam service applying the reorders
+     * @param meterRegistry registry to publish the metrics to
+     * @param windowParam minimum time between two writes of a list
+     */
+    public ReorderCoalescer(
+        final ItemService itemServiceParam,
+        final MeterRegistry meterRegistry,
+        @Value("${listapp.items.reorder.coalesce-window:PT0.05S}")
+        final Duration windowParam) {
+        this.itemService = itemServiceParam;
+        this.window = windowParam;
+        this.submitted = Counter.builder("listapp.items.reorder.submitted")
+            .description("Reorders received for a list")
+            .register(meterRegistry);
+        this.absorbed = Counter.builder("listapp.items.reorder.absorbed")
+            .description("Reorders replaced by a newer reorder of the list")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Submits a reorder and waits until its outcome is known.
+     * @param listId The ID of the list to reorder.
+     * @param dto The requested order.
+     */
+    public void submit(final UUID listId, final ItemReorderDto dto) {
+        submit(listId, PackedUuids.pack(dto.itemOrder()));
+    }
+
+    /**
+     * Submits a packed reorder and waits until its outcome is known.
+     * @param listId The ID of the list to reorder.
+     * @param itemOrder The requested order as packed item IDs.
+     */
+    public void submit(final UUID listId, final byte[] itemOrder) {
+        submitted.increment();
+
+        Request request = new Request(itemOrder);
+        Batch own = new Batch(request);
+        Batch batch = pending.merge(listId, own, (current, ignored) -> {
+            current.requests.add(request);
+            absorbed.increment();
+            return current;
+        });
+
+        if (batch == own) {
+            apply(listId, batch);
+        }
+
+        try {
+            request.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for the running write of a list, then writes a batch.
+     * @param listId The ID of the list to reorder.
+     * @param batch The batch to write.
+     */
+    private void apply(final UUID listId, final Batch batch) {
+        Batch previous = running.get(listId);
+        if (previous != null) {
+            try {
+                awaitWindow(previous);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pending.remove(listId, batch);
+                batch.fail(batch.requests.size() - 1,
+                    new InternalServerException("Reorder was interrupted", e));
+                return;
+            }
+        }
+
+        batch.startedAt = System.nanoTime();
+        running.put(listId, batch);
+        pending.remove(listId, batch);
+
+        try {
+            write(listId, batch);
+        } finally {
+            running.remove(listId, batch);
+            batch.written.complete(null);
+        }
+    }
+
+    /**
+     * Waits until a write has finished and the window since its start has
+     * passed.
+     * @param previous The batch being written.
+     * @throws InterruptedException if the thread is interrupted meanwhile.
+     */
+    private void awaitWindow(final Batch previous)
+        throws InterruptedException {
+        previous.written.join();
+        long remaining = window.toNanos()
+            - (System.nanoTime() - previous.startedAt);
+        if (remaining > 0) {
+            Thread.sleep(Duration.ofNanos(remaining));
+        }
+    }
+
+    /**
+     * Writes the latest valid order of a batch and settles its requests.
+     * The batch is no longer collecting, so its requests do not change.
+     * @param listId The ID of the list to reorder.
+     * @param batch The batch to write.
+     */
+    private void write(final UUID listId, final Batch batch) {
+        List<Request> requests = batch.requests;
+        for (int i = requests.size() - 1; i >= 0; i--) {
+            Request request = requests.get(i);
+            try {
+                itemService.reorderItems(listId, request.itemOrder);
+            } catch (InvalidInputException e) {
+                request.result.completeExceptionally(e);
+                continue;
+            } catch (RuntimeException e) {
+                batch.fail(i, e);
+                return;
+            }
+
+            for (int j = i; j >= 0; j--) {
+                requests.get(j).result.complete(null);
+            }
+            return;
+        }
+    }
+
+    /**
+     * A single submitted reorder.
+     */
+    private static final class Request {
+
+        /**
+         * The requested order as packed item IDs.
+         */
+        private final byte[] itemOrder;
+
+        /**
+         * Outcome of the reorder.
+         */
+        private final CompletableFuture<Void> result =
+            new CompletableFuture<>();
+
+        Request(final byte[] itemOrderParam) {
+            this.itemOrder = itemOrderParam;
+        }
+    }
+
+    /**
+     * Reorders of a single list collected while a write was in progress.
+     */
+    private static final class Batch {
+
+        /**
+         * The collected reorders, oldest first. Only added to while the
+         * batch is pending, within the atomic merge of the pending map.
+         */
+        private final List<Request> requests = new ArrayList<>();
+
+        /**
+         * Completed once the write of the batch has finished.
+         */
+        private final CompletableFuture<Void> written =
+            new CompletableFuture<>();
+
+        /**
+         * Value of System.nanoTime at which the write started.
+         */
+        private volatile long startedAt;
+
+        Batch(final Request first) {
+            requests.add(first);
+        }
+
+        /**
+         * Fails a request and all older requests of the batch.
+         * @param newest Index of the newest request to fail.
+         * @param failure The cause of the failure.
+         */
+        void fail(final int newest, final RuntimeException failure) {
+            for (int i = newest; i >= 0; i--) {
+                requests.get(i).result.completeExceptionally(failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.listapp.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.listapp.dto.sync.ItemChangeDto;
+import com.example.listapp.dto.sync.ListChangeDto;
+import com.example.listapp.dto.sync.SyncDto;
+import com.example.listapp.exception.custom.InvalidInputException;
+import com.example.listapp.helper.SyncCursor;
+import com.example.listapp.repository.ItemRepository;
+import com.example.listapp.repository.ListRepository;
+import com.example.listapp.security.SecurityUtil;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Hands out the changes of the lists and items of a user since a cursor.
+ *
+ * Changes are read in the order of their last update. Transactions stamp
+ * their rows when they start, but become visible only when they commit,
+ * so changes younger than the settle time are held back until the next
+ * sync. Otherwise a slow transaction could commit rows behind a cursor
+ * that has already been handed out. The age is measured by the clock of
+ * the database, as that is the clock the rows are stamped with.
+ */
+@Service
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+public class SyncService {
+
+    /**
+     * Maximum amount of lists and of items returned by a single sync.
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * Repository containing list data.
+     */
+    private final ListRepository listRepository;
+
+    /**
+     * Repository containing item data.
+     */
+    private final ItemRepository itemRepository;
+
+    /**
+     * Util class to retrieve the current user.
+     */
+    private final SecurityUtil securityUtil;
+
+    /**
+     * Age a change needs to reach before it is handed out.
+     */
+    private final Duration settleTime;
+
+    /**
+     * Constructor for the SyncService.
+     * @param listRepositoryParam repository containing list data
+     * @param itemRepositoryParam repository containing item data
+     * @param securityUtilParam util class to retrieve the current user
+     * @param settleTimeParam age a change needs to reach before it is
+     *                        handed out
+     */
+    public SyncService(
+        final ListRepository listRepositoryParam,
+        final ItemRepository itemRepositoryParam,
+        final SecurityUtil securityUtilParam,
+        @Value("${listapp.sync.settle-time:PT5S}")
+        final Duration settleTimeParam) {
+        this.listRepository = listRepositoryParam;
+        this.itemRepository = itemRepositoryParam;
+        this.securityUtil = securityUtilParam;
+        this.settleTime = settleTimeParam;
+    }
+
+    /**
+     * Retrieves the lists and items of the authenticated user that were
+     * created, updated or deleted since a cursor.
+     * @param since cursor returned by the previous sync, or null for the
+     *              initial sync.
+     * @param limit the maximum amount of lists and of items to return.
+     * @return the changes and the cursor of the next sync.
+     */
+    @Transactional(readOnly = true)
+    public SyncDto getChanges(final String since, final int limit) {
+        if (limit < 1 || limit > MAX_BATCH_SIZE) {
+            throw new InvalidInputException(
+                "Limit has to be between 1 and " + MAX_BATCH_SIZE);
+        }
+
+        SyncCursor cursor = since == null
+            ? SyncCursor.START
+            : SyncCursor.decode(since);
+        UUID ownerId = securityUtil.getCurrentUser().getId();
+
+        List<ListChangeDto> lists = listRepository.findChangesByOwnerId(
+            ownerId, cursor.listUpdatedAt(), cursor.listId(), settleTime,
+            limit + 1);
+        List<ItemChangeDto> items = itemRepository.findChangesByOwnerId(
+            ownerId, cursor.itemUpdatedAt(), cursor.itemId(), settleTime,
+            limit + 1);
+
+        boolean hasMore = lists.size() > limit || items.size() > limit;
+        if (lists.size() > limit) {
+            lists = lists.subList(0, limit);
+        }
+        if (items.size() > limit) {
+            items = items.subList(0, limit);
+        }
+
+        if (!lists.isEmpty()) {
+            ListChangeDto last = lists.get(lists.size() - 1);
+            cursor = cursor.withList(last.updatedAt(), last.id());
+        }
+        if (!items.isEmpty()) {
+            ItemChangeDto last = items.get(items.size() - 1);
+            cursor = cursor.withItem(last.updatedAt(), last.id());
+        }
+
+        return new SyncDto(lists, items, cursor.encode(), hasMore);
+    }
+}
@@ -1,23 +1,30 @@
 package com.example.listapp.service;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.listapp.dto.user.UserListRow;
 import com.example.listapp.dto.user.UserResponseDto;
 import com.example.listapp.dto.user.UserUpdateDto;
 import com.example.listapp.entity.User;
+import com.example.listapp.exception.custom.ResourceNotFoundException;
+import com.example.listapp.helper.ETags;
 import com.example.listapp.mapper.UserMapper;
 import com.example.listapp.repository.UserRepository;
 import com.example.listapp.security.SecurityUtil;
+import com.example.listapp.service.security.OwnershipCache;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@SuppressFBWarnings("EI_EXPOSE_REP2")
 public class UserService {
 
     /**
@@ -36,17 +43,43 @@ public class UserService {
     private final SecurityUtil securityUtil;
 
     /**
-     * Retrieves the currently authenticated user.
+     * Cache of confirmed list ownerships.
+     */
+    private final OwnershipCache ownershipCache;
+
+    /**
+     * Retrieves the currently authenticated user together with the
+     * summaries of their lists, read in a single query.
      * @return the currently authenticated user.
      */
     @Transactional(readOnly = true)
     public UserResponseDto getUser() {
-        User user = securityUtil.getCurrentUser();
+        UUID userId = securityUtil.getCurrentUser().getId();
 
-        UserResponseDto response = userMapper.toResponseDto(user);
+        List<UserListRow> rows =
+            userRepository.findWithListSummariesById(userId);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("User", userId.toString());
+        }
+
+        UserResponseDto response = userMapper.toResponseDto(rows);
         return response;
     }
 
+    /**
+     * Computes the entity tag of the currently authenticated user, without
+     * loading the user or their lists.
+     * @return the entity tag.
+     */
+    @Transactional(readOnly = true)
+    public String getUserETag() {
+        UUID userId = securityUtil.getCurrentUser().getId();
+        return userRepository.findVersionStampById(userId)
+            .map(ETags::strong)
+            .orElseThrow(()
+                -> new ResourceNotFoundException("User", userId.toString()));
+    }
+
     /**
      * Updates the currently authenticated user.
      * @param dto The to be changed values of the user.
@@ -73,6 +106,7 @@ public class UserService {
         User entity = securityUtil.getCurrentUser();
 
         userRepository.delete(entity);
+        ownershipCache.invalidateUserAfterCommit(entity.getId());
         log.info("Deleted user with id: {}", entity.getId());
     }
 }
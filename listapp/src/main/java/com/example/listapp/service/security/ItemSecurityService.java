@@ -1,13 +1,10 @@
 package com.example.listapp.service.security;
 
-import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 
-import com.example.listapp.entity.User;
 import com.example.listapp.repository.ItemRepository;
-import com.example.listapp.repository.ListRepository;
 import com.example.listapp.security.SecurityUtil;
 
 import lombok.RequiredArgsConstructor;
@@ -22,27 +19,26 @@ public class ItemSecurityService {
     private final ItemRepository itemRepository;
 
     /**
-     * Repository containing list data.
+     * Util class to retrieve the current user.
      */
-    private final ListRepository listRepository;
+    private final SecurityUtil securityUtil;
 
     /**
-     * Util class to retrieve the current user.
+     * Checks of list ownership.
      */
-    private final SecurityUtil securityUtil;
+    private final ListSecurityService listSecurityService;
 
     /**
      * Helper method to determine whether a user can access a specific item.
+     * Item and list ownership are checked together in a single query.
      * @param listId The ID of the list the item to be retrieved belongs to.
      * @param itemId The ID of the item to perform the check for.
      * @return if the currently authenticated user can access the item.
      */
     public boolean canAccessItem(final UUID listId, final UUID itemId) {
-        User currentUser = securityUtil.getCurrentUser();
-        return (itemRepository.findByIdAndListId(itemId, listId) != null)
-            && (listRepository.findByIdAndOwnerId(
-                listId, currentUser.getId()) != null
-            );
+        UUID userId = securityUtil.getCurrentUser().getId();
+        return itemRepository.existsByIdAndListIdAndOwnerId(
+            itemId, listId, userId);
     }
 
     /**
@@ -51,10 +47,6 @@ public class ItemSecurityService {
      * @return if the currently authenticated user can access the list.
      */
     public boolean canAccessList(final UUID listId) {
-        User currentUser = securityUtil.getCurrentUser();
-        Optional<?> optionalList = listRepository.findByIdAndOwnerId(
-            listId, currentUser.getId()
-        );
-        return optionalList.isPresent();
+        return listSecurityService.isOwner(listId);
     }
 }
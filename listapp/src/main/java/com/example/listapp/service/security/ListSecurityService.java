@@ -1,19 +1,18 @@
 package com.example.listapp.service.security;
 
-import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 
-import com.example.listapp.entity.ListEntity;
-import com.example.listapp.entity.User;
 import com.example.listapp.repository.ListRepository;
 import com.example.listapp.security.SecurityUtil;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import lombok.RequiredArgsConstructor;
 
 @Component("listSecurity")
 @RequiredArgsConstructor
+@SuppressFBWarnings("EI_EXPOSE_REP2")
 public class ListSecurityService {
 
     /**
@@ -26,16 +25,28 @@ public class ListSecurityService {
      */
     private final SecurityUtil securityUtil;
 
+    /**
+     * Cache of confirmed list ownerships.
+     */
+    private final OwnershipCache ownershipCache;
+
     /**
      * Helper method to determine if the authenticated user owns a list.
+     * Confirmed ownerships are cached, so repeated checks of the same list
+     * do not query the database.
      * @param listId The ID of the list to perform the check for.
      * @return if the currently authenticated user is the owner of the list.
      */
     public boolean isOwner(final UUID listId) {
-        User currentUser = securityUtil.getCurrentUser();
-        Optional<ListEntity> optional = listRepository.findByIdAndOwnerId(
-            listId, currentUser.getId()
-        );
-        return optional.isPresent();
+        UUID userId = securityUtil.getCurrentUser().getId();
+        if (ownershipCache.isOwner(userId, listId)) {
+            return true;
+        }
+
+        boolean owner = listRepository.existsByIdAndOwnerId(listId, userId);
+        if (owner) {
+            ownershipCache.put(userId, listId);
+        }
+        return owner;
     }
 }
@@ -0,0 +1,223 @@
+package com.example.listapp.service.security;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Remembers which lists a user owns, so repeated ownership checks of the
+ * same list skip the database.
+ *
+ * Entries live in a fixed-size table, in the slot given by a hash of the
+ * user and list IDs. A new entry replaces whatever occupied its slot, and
+ * entries expire after the time to live, so the cache never grows beyond
+ * its table. Only confirmed ownership is cached. The owner of a list never
+ * changes, so entries only have to be invalidated when lists or users are
+ * deleted.
+ *
+ * Deletions invalidate their entries once the transaction has committed.
+ * Until then the list is still visible to other transactions, and a
+ * concurrent check would cache its ownership again.
+ */
+@Component
+public final class OwnershipCache {
+
+    /**
+     * Multiplier spreading the ID bits over the slots.
+     */
+    private static final long SPREAD = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Slots of the cache, null where no entry has been stored.
+     */
+    private final AtomicReferenceArray<Entry> slots;
+
+    /**
+     * Mask selecting a slot from a hash.
+     */
+    private final int mask;
+
+    /**
+     * Time an entry stays valid, in nanoseconds.
+     */
+    private final long ttlNanos;
+
+    /**
+     * Counter of ownership checks answered by the cache.
+     */
+    private final Counter hits;
+
+    /**
+     * Counter of ownership checks that had to query the database.
+     */
+    private final Counter misses;
+
+    /**
+     * Constructor for the OwnershipCache.
+     * @param meterRegistry registry to publish the metrics to
+     * @param size amount of slots, rounded up to a power of two
+     * @param ttl time an entry stays valid
+     */
+    public OwnershipCache(
+        final MeterRegistry meterRegistry,
+        @Value("${listapp.security.ownership-cache.size:4096}")
+        final int size,
+        @Value("${listapp.security.ownership-cache.ttl:PT1M}")
+        final Duration ttl) {
+        if (size < 1) {
+            throw new IllegalArgumentException(
+                "Ownership cache size has to be positive");
+        }
+
+        int capacity = Integer.highestOneBit(size);
+        if (capacity < size) {
+            capacity <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.ttlNanos = ttl.toNanos();
+        this.hits = Counter.builder("cache.gets")
+            .tag("cache", "list-ownership")
+            .tag("result", "hit")
+            .description("Ownership checks answered from the cache")
+            .register(meterRegistry);
+        this.misses = Counter.builder("cache.gets")
+            .tag("cache", "list-ownership")
+            .tag("result", "miss")
+            .description("Ownership checks that queried the database")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Checks whether a user is known to own a list.
+     * @param userId ID of the user.
+     * @param listId ID of the list.
+     * @return true if the ownership is cached, false if it has to be
+     *         checked against the database.
+     */
+    public boolean isOwner(final UUID userId, final UUID listId) {
+        Entry entry = slots.get(slot(userId, listId));
+        if (entry != null && entry.matches(userId, listId)
+            && System.nanoTime() - entry.expiresAt() < 0) {
+            hits.increment();
+            return true;
+        }
+
+        misses.increment();
+        return false;
+    }
+
+    /**
+     * Remembers that a user owns a list.
+     * @param userId ID of the user.
+     * @param listId ID of the list.
+     */
+    public void put(final UUID userId, final UUID listId) {
+        slots.set(slot(userId, listId), new Entry(
+            userId.getMostSignificantBits(), userId.getLeastSignificantBits(),
+            listId.getMostSignificantBits(), listId.getLeastSignificantBits(),
+            System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * Forgets the ownership of a list, e.g. because it has been deleted.
+     * @param userId ID of the owner of the list.
+     * @param listId ID of the list.
+     */
+    public void invalidate(final UUID userId, final UUID listId) {
+        int slot = slot(userId, listId);
+        Entry entry = slots.get(slot);
+        if (entry != null && entry.matches(userId, listId)) {
+            slots.compareAndSet(slot, entry, null);
+        }
+    }
+
+    /**
+     * Forgets every list of a user, e.g. because the user has been deleted.
+     * @param userId ID of the user.
+     */
+    public void invalidateUser(final UUID userId) {
+        for (int slot = 0; slot < slots.length(); slot++) {
+            Entry entry = slots.get(slot);
+            if (entry != null && entry.belongsTo(userId)) {
+                slots.compareAndSet(slot, entry, null);
+            }
+        }
+    }
+
+    /**
+     * Forgets the ownership of a list once the current transaction has
+     * committed, or right away outside of a transaction.
+     * @param userId ID of the owner of the list.
+     * @param listId ID of the deleted list.
+     */
+    public void invalidateAfterCommit(final UUID userId, final UUID listId) {
+        afterCommit(() -> invalidate(userId, listId));
+    }
+
+    /**
+     * Forgets every list of a user once the current transaction has
+     * committed, or right away outside of a transaction.
+     * @param userId ID of the deleted user.
+     */
+    public void invalidateUserAfterCommit(final UUID userId) {
+        afterCommit(() -> invalidateUser(userId));
+    }
+
+    private static void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+    }
+
+    private int slot(final UUID userId, final UUID listId) {
+        long hash = (userId.getLeastSignificantBits()
+            ^ listId.getLeastSignificantBits()) * SPREAD;
+        return (int) (hash ^ (hash >>> Integer.SIZE)) & mask;
+    }
+
+    /**
+     * A cached ownership, keyed by the bits of both IDs.
+     * @param userMsb most significant bits of the user ID.
+     * @param userLsb least significant bits of the user ID.
+     * @param listMsb most significant bits of the list ID.
+     * @param listLsb least significant bits of the list ID.
+     * @param expiresAt value of System.nanoTime at which the entry expires.
+     */
+    private record Entry(
+        long userMsb,
+        long userLsb,
+        long listMsb,
+        long listLsb,
+        long expiresAt
+    ) {
+
+        boolean belongsTo(final UUID userId) {
+            return userMsb == userId.getMostSignificantBits()
+                && userLsb == userId.getLeastSignificantBits();
+        }
+
+        boolean matches(final UUID userId, final UUID listId) {
+            return belongsTo(userId)
+                && listMsb == listId.getMostSignificantBits()
+                && listLsb == listId.getLeastSignificantBits();
+        }
+    }
+}
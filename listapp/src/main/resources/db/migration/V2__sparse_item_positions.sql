@@ -0,0 +1,11 @@
+ALTER TABLE list_items ALTER COLUMN position TYPE BIGINT;
+
+UPDATE list_items li
+SET position = ranked.rn * 65536
+FROM (
+  SELECT id, row_number() OVER (
+    PARTITION BY list_id ORDER BY position, created_at, id
+  ) AS rn
+  FROM list_items
+) ranked
+WHERE li.id = ranked.id;
@@ -0,0 +1,6 @@
+ALTER TABLE lists ADD COLUMN next_position BIGINT NOT NULL DEFAULT 0;
+
+UPDATE lists l
+SET next_position = COALESCE((
+  SELECT MAX(li.position) FROM list_items li WHERE li.list_id = l.id
+), 0);
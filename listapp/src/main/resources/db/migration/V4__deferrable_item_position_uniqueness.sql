@@ -0,0 +1,5 @@
+ALTER TABLE list_items
+  ADD CONSTRAINT uq_list_items_list_id_position
+  EXCLUDE USING btree (list_id WITH =, position WITH =)
+  WHERE (deleted = false)
+  DEFERRABLE INITIALLY DEFERRED;
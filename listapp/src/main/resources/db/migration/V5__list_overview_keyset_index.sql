@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_lists_owner_id_updated_at
+  ON lists (owner_id, updated_at, id);
@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_list_items_list_id_updated_at
+  ON list_items (list_id, updated_at, id);
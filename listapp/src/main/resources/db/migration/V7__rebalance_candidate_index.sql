@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_list_items_updated_at_list_id
+  ON list_items (updated_at, list_id)
+  WHERE deleted = false;
@@ -2,6 +2,9 @@ package com.example.listapp.controller;
 
 import static com.example.listapp.util.entities.ListTestBuilder.aList;
 import static com.example.listapp.util.entities.ItemTestBuilder.anItem;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -9,6 +12,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -17,10 +21,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
@@ -31,13 +37,22 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.example.listapp.dto.item.ItemCreateDto;
+import com.example.listapp.dto.item.ItemFieldsPageDto;
+import com.example.listapp.dto.item.ItemMoveDto;
+import com.example.listapp.dto.item.ItemPageDto;
 import com.example.listapp.dto.item.ItemReorderDto;
+import com.example.listapp.dto.item.ItemSummaryDto;
+import com.example.listapp.dto.item.ItemTransferDto;
 import com.example.listapp.dto.item.ItemUpdateDto;
 import com.example.listapp.entity.Item;
 import com.example.listapp.entity.ListEntity;
 import com.example.listapp.exception.custom.ResourceAlreadyExistsException;
 import com.example.listapp.exception.custom.ResourceNotFoundException;
+import com.example.listapp.helper.PackedUuids;
 import com.example.listapp.service.ItemService;
+import com.example.listapp.service.ReorderCoalescer;
+import com.example.listapp.service.security.ItemSecurityService;
+import com.example.listapp.service.security.ListSecurityService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 
@@ -49,8 +64,23 @@ public class ItemControllerTests {
     @MockitoBean
     private ItemService itemService;
 
+    @MockitoBean
+    private ReorderCoalescer reorderCoalescer;
+
+    @MockitoBean
+    private ListSecurityService listSecurityService;
+
+    @MockitoBean
+    private ItemSecurityService itemSecurityService;
+
     ObjectMapper objectMapper = new ObjectMapper().registerModule(new Jdk8Module());
 
+    @BeforeEach
+    void grantOwnership() {
+        when(listSecurityService.isOwner(any())).thenReturn(true);
+        when(itemSecurityService.canAccessItem(any(), any())).thenReturn(true);
+    }
+
     @Test
     @WithMockUser
     void createItem_ShouldReturnId_WhenAuthenticated() throws Exception {
@@ -331,7 +361,7 @@ public class ItemControllerTests {
                 .with(csrf()))
                 .andExpect(status().isNoContent());
 
-        verify(itemService).reorderItems(list.getId(), dto);
+        verify(reorderCoalescer).submit(list.getId(), dto);
     }
 
     @Test
@@ -341,7 +371,7 @@ public class ItemControllerTests {
         Item item1 = anItem().withId(UUID.randomUUID()).withList(list).build();
         UUID randomId = UUID.randomUUID();
         ItemReorderDto dto = new ItemReorderDto(List.of(item1.getId(), randomId));
-        doThrow(new ResourceNotFoundException("Item", randomId.toString())).when(itemService).reorderItems(list.getId(), dto);
+        doThrow(new ResourceNotFoundException("Item", randomId.toString())).when(reorderCoalescer).submit(list.getId(), dto);
 
         String expectedMessage = String.format("Item not found with identifier: %s", randomId.toString());
 
@@ -355,7 +385,136 @@ public class ItemControllerTests {
                 .andExpect(jsonPath("$.error").value(expectedMessage))
                 .andExpect(jsonPath("$.errorCode").value("RESOURCE_NOT_FOUND"));
 
-        verify(itemService).reorderItems(list.getId(), dto);
+        verify(reorderCoalescer).submit(list.getId(), dto);
+    }
+
+    @Test
+    @WithMockUser
+    void reorderItems_ShouldAcceptPackedIds() throws Exception {
+        UUID listId = UUID.randomUUID();
+        byte[] packed = PackedUuids.pack(List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+        mockMvc.perform(patch("/api/v1/lists/{listId}/items/order", listId)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(packed)
+                .with(csrf()))
+                .andExpect(status().isNoContent());
+
+        verify(reorderCoalescer).submit(eq(listId), aryEq(packed));
+    }
+
+    @Test
+    @WithMockUser
+    void moveItem_ShouldReturnNoContent_WhenAuthenticated() throws Exception {
+        ListEntity list = aList().withId(UUID.randomUUID()).build();
+        Item item1 = anItem().withId(UUID.randomUUID()).withList(list).build();
+        Item item2 = anItem().withId(UUID.randomUUID()).withList(list).build();
+        ItemMoveDto dto = new ItemMoveDto(item2.getId(), item1.getId(), null);
+
+        mockMvc.perform(patch("/api/v1/lists/{listId}/items/order/move", list.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto))
+                .with(csrf()))
+                .andExpect(status().isNoContent());
+
+        verify(itemService).moveItem(list.getId(), dto);
+    }
+
+    @Test
+    @WithMockUser
+    void moveItem_ShouldThrowBadRequest_WhenItemIdMissing() throws Exception {
+        ListEntity list = aList().withId(UUID.randomUUID()).build();
+        ItemMoveDto dto = new ItemMoveDto(null, UUID.randomUUID(), null);
+
+        mockMvc.perform(patch("/api/v1/lists/{listId}/items/order/move", list.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto))
+                .with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+
+        verifyNoInteractions(itemService);
+    }
+
+    @Test
+    @WithMockUser
+    void sortItems_ShouldReturnNoContent_WhenAuthenticated() throws Exception {
+        UUID listId = UUID.randomUUID();
+
+        mockMvc.perform(post("/api/v1/lists/{listId}/items/order:sort", listId)
+                .param("by", "title")
+                .param("dir", "desc")
+                .with(csrf()))
+                .andExpect(status().isNoContent());
+
+        verify(itemService).sortItems(listId, "title", "desc");
+    }
+
+    @Test
+    @WithMockUser
+    void sortItems_ShouldDefaultToAscending() throws Exception {
+        UUID listId = UUID.randomUUID();
+
+        mockMvc.perform(post("/api/v1/lists/{listId}/items/order:sort", listId)
+                .param("by", "createdAt")
+                .with(csrf()))
+                .andExpect(status().isNoContent());
+
+        verify(itemService).sortItems(listId, "createdAt", "asc");
+    }
+
+    @Test
+    @WithMockUser
+    void sortItems_ShouldThrowBadRequest_WhenFieldMissing() throws Exception {
+        mockMvc.perform(post("/api/v1/lists/{listId}/items/order:sort", UUID.randomUUID())
+                .with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(itemService);
+    }
+
+    @Test
+    @WithMockUser
+    void shuffleItems_ShouldReturnNoContent_WhenAuthenticated() throws Exception {
+        UUID listId = UUID.randomUUID();
+
+        mockMvc.perform(post("/api/v1/lists/{listId}/items/order:shuffle", listId)
+                .with(csrf()))
+                .andExpect(status().isNoContent());
+
+        verify(itemService).shuffleItems(listId);
+    }
+
+    @Test
+    @WithMockUser
+    void moveItems_ShouldReturnNoContent_WhenAuthenticated() throws Exception {
+        UUID sourceId = UUID.randomUUID();
+        UUID targetId = UUID.randomUUID();
+        List<UUID> itemIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        ItemTransferDto dto = new ItemTransferDto(targetId, itemIds, 3);
+
+        mockMvc.perform(post("/api/v1/lists/{listId}/items/transfer", sourceId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto))
+                .with(csrf()))
+                .andExpect(status().isNoContent());
+
+        verify(itemService).moveItems(sourceId, targetId, itemIds, 3);
+    }
+
+    @Test
+    @WithMockUser
+    void moveItems_ShouldThrowBadRequest_WhenNoItemsGiven() throws Exception {
+        ItemTransferDto dto = new ItemTransferDto(UUID.randomUUID(), List.of(), 0);
+
+        mockMvc.perform(post("/api/v1/lists/{listId}/items/transfer", UUID.randomUUID())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto))
+                .with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+
+        verifyNoInteractions(itemService);
     }
 
     @Test
@@ -372,6 +531,36 @@ public class ItemControllerTests {
         verify(itemService).deleteItem(list.getId(), item.getId());
     }
 
+    @Test
+    @WithMockUser
+    void deleteItem_ShouldReturnForbidden_WhenItemIsNotAccessible() throws Exception {
+        UUID listId = UUID.randomUUID();
+        UUID itemId = UUID.randomUUID();
+        when(itemSecurityService.canAccessItem(listId, itemId)).thenReturn(false);
+
+        mockMvc.perform(delete("/api/v1/lists/{listId}/items/{id}", listId, itemId)
+                .with(csrf())
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.errorCode").value("ACCESS_DENIED"));
+
+        verifyNoInteractions(itemService);
+    }
+
+    @Test
+    @WithMockUser
+    void getItems_ShouldReturnForbidden_WhenListIsNotOwned() throws Exception {
+        UUID listId = UUID.randomUUID();
+        when(listSecurityService.isOwner(listId)).thenReturn(false);
+
+        mockMvc.perform(get("/api/v1/lists/{listId}/items", listId)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.errorCode").value("ACCESS_DENIED"));
+
+        verifyNoInteractions(itemService);
+    }
+
     @Test
     @WithMockUser
     void deleteItem_ShouldThrowNotFound_WhenNoElementWithIdExist() throws Exception {
@@ -409,4 +598,53 @@ public class ItemControllerTests {
 
         verifyNoInteractions(itemService);
     }
+
+    @Test
+    @WithMockUser
+    void getItems_ShouldReturnWindow_WhenAuthenticated() throws Exception {
+        UUID listId = UUID.randomUUID();
+        ItemSummaryDto item = new ItemSummaryDto(UUID.randomUUID(), "Testitem", null, 20L, null);
+        when(itemService.getItems(listId, 10L, 1)).thenReturn(new ItemPageDto(List.of(item), 20L));
+
+        mockMvc.perform(get("/api/v1/lists/{listId}/items", listId)
+                .param("afterPosition", "10")
+                .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items[0].id").value(item.id().toString()))
+                .andExpect(jsonPath("$.nextAfterPosition").value(20));
+
+        verify(itemService).getItems(listId, 10L, 1);
+    }
+
+    @Test
+    @WithMockUser
+    void getItems_ShouldUseDefaults_WhenNoParametersProvided() throws Exception {
+        UUID listId = UUID.randomUUID();
+        when(itemService.getItems(listId, null, 100)).thenReturn(new ItemPageDto(List.of(), null));
+
+        mockMvc.perform(get("/api/v1/lists/{listId}/items", listId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()").value(0));
+
+        verify(itemService).getItems(listId, null, 100);
+    }
+
+    @Test
+    @WithMockUser
+    void getItems_ShouldReturnSelectedFields_WhenFieldsProvided() throws Exception {
+        UUID listId = UUID.randomUUID();
+        UUID itemId = UUID.randomUUID();
+        ItemFieldsPageDto page = new ItemFieldsPageDto(List.of(Map.of("id", itemId, "title", "Testitem")), null);
+        when(itemService.getItemFields(listId, null, 100, "title")).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/lists/{listId}/items", listId)
+                .param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(itemId.toString()))
+                .andExpect(jsonPath("$.items[0].title").value("Testitem"))
+                .andExpect(jsonPath("$.items[0].notes").doesNotExist());
+
+        verify(itemService).getItemFields(listId, null, 100, "title");
+    }
 }
@@ -1,12 +1,18 @@
 package com.example.listapp.controller;
 
 import static com.example.listapp.util.dtos.ListResponseDtoBuilder.aListResponseDto;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -14,13 +20,18 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
@@ -29,13 +40,18 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.example.listapp.dto.list.ListCreateDto;
 import com.example.listapp.dto.list.ListResponseDto;
+import com.example.listapp.dto.list.ListSummaryDto;
+import com.example.listapp.dto.list.ListSummaryPageDto;
 import com.example.listapp.dto.list.ListUpdateDto;
 import com.example.listapp.exception.custom.ResourceAlreadyExistsException;
 import com.example.listapp.exception.custom.ResourceNotFoundException;
 import com.example.listapp.service.ListService;
+import com.example.listapp.service.ListStreamService;
+import com.example.listapp.service.security.ItemSecurityService;
 import com.example.listapp.service.security.ListSecurityService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -51,14 +67,25 @@ public class ListControllerTests {
     @MockitoBean
     private ListService listService;
 
+    @MockitoBean
+    private ListStreamService listStreamService;
+
     @MockitoBean
     private ListSecurityService listSecurityService;
 
+    @MockitoBean
+    private ItemSecurityService itemSecurityService;
+
     ObjectMapper objectMapper = new ObjectMapper()
         .registerModule(new JavaTimeModule())
         .registerModule(new Jdk8Module())
         .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
 
+    @BeforeEach
+    void grantOwnership() {
+        when(listSecurityService.isOwner(any())).thenReturn(true);
+    }
+
     @Test
     @WithMockUser
     void createList_ShouldReturnId_WhenAuthenticated() throws Exception {
@@ -223,22 +250,40 @@ public class ListControllerTests {
 
     @Test
     @WithMockUser
-    void getLists_ShouldReturnLists_WhenAuthenticated() throws Exception {
-        ListResponseDto responseDto1 = aListResponseDto().withId(UUID.randomUUID()).build();
-        ListResponseDto responseDto2 = aListResponseDto().withId(UUID.randomUUID()).build();
-        List<ListResponseDto> listResponse = List.of(responseDto1, responseDto2);
-        when(listService.getAllUserLists()).thenReturn(listResponse);
+    void getLists_ShouldReturnPage_WhenAuthenticated() throws Exception {
+        ListSummaryDto responseDto1 = new ListSummaryDto(UUID.randomUUID(), "List 1", "Description", null, 2);
+        ListSummaryDto responseDto2 = new ListSummaryDto(UUID.randomUUID(), "List 2", null, null, 0);
+        ListSummaryPageDto page = new ListSummaryPageDto(List.of(responseDto1, responseDto2), "next");
+        when(listService.getUserLists(null, 50)).thenReturn(page);
 
         mockMvc.perform(get("/api/v1/lists")
                 .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].id").value(responseDto1.id().toString()))
-                .andExpect(jsonPath("$[1].id").value(responseDto2.id().toString()))
-                .andExpect(jsonPath("$.size()").value(listResponse.size()))
-                .andExpect(content().json(objectMapper.writeValueAsString(listResponse)));
+                .andExpect(jsonPath("$.items[0].id").value(responseDto1.id().toString()))
+                .andExpect(jsonPath("$.items[1].id").value(responseDto2.id().toString()))
+                .andExpect(jsonPath("$.items[0].itemCount").value(2))
+                .andExpect(jsonPath("$.items[0].items").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(content().json(objectMapper.writeValueAsString(page)));
+
+        verify(listService).getUserLists(null, 50);
+    }
+
+    @Test
+    @WithMockUser
+    void getLists_ShouldPassCursorAndLimit_WhenProvided() throws Exception {
+        ListSummaryPageDto page = new ListSummaryPageDto(List.of(), null);
+        when(listService.getUserLists("abc", 10)).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/lists")
+                .param("cursor", "abc")
+                .param("limit", "10")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()").value(0));
 
-        verify(listService).getAllUserLists();
+        verify(listService).getUserLists("abc", 10);
     }
 
     @Test
@@ -345,6 +390,21 @@ public class ListControllerTests {
         verify(listService).deleteList(randomId);
     }
 
+    @Test
+    @WithMockUser
+    void deleteList_ShouldReturnForbidden_WhenListIsNotOwned() throws Exception {
+        UUID randomId = UUID.randomUUID();
+        when(listSecurityService.isOwner(randomId)).thenReturn(false);
+
+        mockMvc.perform(delete("/api/v1/lists/{id}", randomId)
+                .with(csrf())
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.errorCode").value("ACCESS_DENIED"));
+
+        verifyNoInteractions(listService);
+    }
+
     @Test
     @WithMockUser
     void deleteList_ShouldThrowNotFound_WhenNoElementWithIdExists() throws Exception {
@@ -380,4 +440,97 @@ public class ListControllerTests {
 
         verifyNoInteractions(listService);
     }
+
+    @Test
+    @WithMockUser
+    void streamListById_ShouldStreamList_WhenAuthenticated() throws Exception {
+        ListResponseDto header = aListResponseDto().withId(UUID.randomUUID()).build();
+        when(listService.getListHeaderById(header.id())).thenReturn(header);
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"id\":\"streamed\"}".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(listStreamService).writeList(eq(header), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/lists/{id}:stream", header.id()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.id").value("streamed"));
+
+        verify(listService).getListHeaderById(header.id());
+        verify(listService, never()).getListById(any());
+    }
+
+    @Test
+    @WithMockUser
+    void streamListById_ShouldThrowNotFound_WhenNoElementWithIdExists() throws Exception {
+        UUID randomId = UUID.randomUUID();
+        when(listService.getListHeaderById(randomId)).thenThrow(new ResourceNotFoundException("List", randomId.toString()));
+
+        mockMvc.perform(get("/api/v1/lists/{id}:stream", randomId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value("RESOURCE_NOT_FOUND"));
+
+        verifyNoInteractions(listStreamService);
+    }
+
+    @Test
+    @WithMockUser
+    void getListById_ShouldReturnSelectedFields_WhenFieldsProvided() throws Exception {
+        UUID listId = UUID.randomUUID();
+        when(listService.getListFieldsById(listId, "title")).thenReturn(Map.of("id", listId, "title", "List 1"));
+
+        mockMvc.perform(get("/api/v1/lists/{id}", listId)
+                .param("fields", "title")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("List 1"))
+                .andExpect(jsonPath("$.description").doesNotExist())
+                .andExpect(jsonPath("$.items").doesNotExist());
+
+        verify(listService).getListFieldsById(listId, "title");
+        verify(listService, never()).getListById(any());
+    }
+
+    @Test
+    @WithMockUser
+    void getListById_ShouldReturnETag_WhenAuthenticated() throws Exception {
+        ListResponseDto responseDto = aListResponseDto().withId(UUID.randomUUID()).build();
+        when(listService.getListETag(responseDto.id())).thenReturn("\"abc\"");
+        when(listService.getListById(responseDto.id())).thenReturn(responseDto);
+
+        mockMvc.perform(get("/api/v1/lists/{id}", responseDto.id()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""));
+    }
+
+    @Test
+    @WithMockUser
+    void getListById_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        UUID listId = UUID.randomUUID();
+        when(listService.getListETag(listId)).thenReturn("\"abc\"");
+
+        mockMvc.perform(get("/api/v1/lists/{id}", listId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(listService, never()).getListById(any());
+    }
+
+    @Test
+    @WithMockUser
+    void getLists_ShouldReturnNotModified_WhenWeakETagMatches() throws Exception {
+        when(listService.getUserListsETag(null, 50)).thenReturn("W/\"abc\"");
+
+        mockMvc.perform(get("/api/v1/lists")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"abc\""))
+                .andExpect(status().isNotModified());
+
+        verify(listService, never()).getUserLists(any(), anyInt());
+    }
 }
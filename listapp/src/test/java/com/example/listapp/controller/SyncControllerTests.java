@@ -0,0 +1,88 @@
+package com.example.listapp.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.listapp.dto.sync.ItemChangeDto;
+import com.example.listapp.dto.sync.ListChangeDto;
+import com.example.listapp.dto.sync.SyncDto;
+import com.example.listapp.exception.custom.InvalidInputException;
+import com.example.listapp.service.SyncService;
+import com.example.listapp.service.security.ItemSecurityService;
+import com.example.listapp.service.security.ListSecurityService;
+
+@WebMvcTest(SyncController.class)
+public class SyncControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SyncService syncService;
+
+    @MockitoBean
+    private ListSecurityService listSecurityService;
+
+    @MockitoBean
+    private ItemSecurityService itemSecurityService;
+
+    @Test
+    @WithMockUser
+    void getChanges_shouldReturnChanges_WithTombstones() throws Exception {
+        UUID listId = UUID.randomUUID();
+        UUID itemId = UUID.randomUUID();
+        SyncDto changes = new SyncDto(
+            List.of(new ListChangeDto(listId, "List", null, Instant.now(), 1L, false)),
+            List.of(new ItemChangeDto(itemId, listId, "Item", null, 65536L, null, Instant.now(), 2L, true)),
+            "next",
+            false);
+        when(syncService.getChanges("since", 500)).thenReturn(changes);
+
+        mockMvc.perform(get("/api/v1/sync")
+                .param("since", "since")
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.lists[0].id").value(listId.toString()))
+            .andExpect(jsonPath("$.lists[0].deleted").value(false))
+            .andExpect(jsonPath("$.items[0].id").value(itemId.toString()))
+            .andExpect(jsonPath("$.items[0].deleted").value(true))
+            .andExpect(jsonPath("$.nextCursor").value("next"))
+            .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @WithMockUser
+    void getChanges_shouldStartInitialSync_WhenNoCursorGiven() throws Exception {
+        when(syncService.getChanges(null, 100)).thenReturn(new SyncDto(List.of(), List.of(), "next", false));
+
+        mockMvc.perform(get("/api/v1/sync")
+                .param("limit", "100")
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk());
+
+        verify(syncService).getChanges(null, 100);
+    }
+
+    @Test
+    @WithMockUser
+    void getChanges_shouldReturnBadRequest_WhenCursorIsInvalid() throws Exception {
+        when(syncService.getChanges("broken", 500)).thenThrow(new InvalidInputException("Invalid cursor"));
+
+        mockMvc.perform(get("/api/v1/sync")
+                .param("since", "broken")
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+    }
+}
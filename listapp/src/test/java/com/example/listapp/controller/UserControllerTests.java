@@ -12,6 +12,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -20,6 +21,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.example.listapp.dto.user.UserResponseDto;
 import com.example.listapp.dto.user.UserUpdateDto;
 import com.example.listapp.service.UserService;
+import com.example.listapp.service.security.ItemSecurityService;
+import com.example.listapp.service.security.ListSecurityService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 
@@ -32,6 +35,12 @@ public class UserControllerTests {
     @MockitoBean
     private UserService userService;
 
+    @MockitoBean
+    private ListSecurityService listSecurityService;
+
+    @MockitoBean
+    private ItemSecurityService itemSecurityService;
+
     ObjectMapper objectMapper = new ObjectMapper().registerModule(new Jdk8Module());
 
     @Test
@@ -125,4 +134,28 @@ public class UserControllerTests {
 
         verify(userService).deleteUser();
     }
+
+    @Test
+    @WithMockUser
+    void getUser_shouldReturnNotModified_whenETagMatches() throws Exception {
+        when(userService.getUserETag()).thenReturn("\"abc\"");
+
+        mockMvc.perform(get("/api/v1/user")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+                .andExpect(status().isNotModified());
+
+        verify(userService, never()).getUser();
+    }
+
+    @Test
+    @WithMockUser
+    void getUser_shouldReturnETag_whenNotCached() throws Exception {
+        UserResponseDto responseDto = aUserResponseDto().withId(UUID.randomUUID()).build();
+        when(userService.getUserETag()).thenReturn("\"abc\"");
+        when(userService.getUser()).thenReturn(responseDto);
+
+        mockMvc.perform(get("/api/v1/user"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""));
+    }
 }
@@ -4,15 +4,31 @@ import static com.example.listapp.util.entities.ItemTestBuilder.anItem;
 import static com.example.listapp.util.entities.ListTestBuilder.aList;
 import static com.example.listapp.util.entities.UserTestBuilder.aUser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.listapp.dto.item.ItemSummaryDto;
+import com.example.listapp.entity.Item;
+import com.example.listapp.helper.ItemField;
+
+import jakarta.persistence.EntityManagerFactory;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -21,11 +37,23 @@ public class ItemRepositoryTests {
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private ListRepository listRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
     @Autowired
     private TestEntityManager entityManager;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Test
-    void findAllByListIdOrderByPositionAsc_shouldReturnSortedItems() {
+    void findWindowByListId_shouldReturnSortedItems() {
            var owner = entityManager.persist(aUser().build());
            var list = entityManager.persist(aList().withOwner(owner).build());
 
@@ -36,15 +64,15 @@ public class ItemRepositoryTests {
            entityManager.persist(item2);
            entityManager.flush();
 
-           var result = itemRepository.findAllByListIdOrderByPositionAsc(list.getId());
+           var result = itemRepository.findWindowByListId(list.getId(), 0, 10);
 
            assertEquals(2, result.size());
-           assertEquals(1, result.get(0).getPosition());
-           assertEquals(2, result.get(1).getPosition());
+           assertEquals(1, result.get(0).position());
+           assertEquals(2, result.get(1).position());
     }
 
     @Test
-    void findAllByListIdOrderByPositionAsc_shouldOnlyReturnItemsBelongingToTheList() {
+    void findWindowByListId_shouldOnlyReturnItemsBelongingToTheList() {
            var owner = entityManager.persist(aUser().build());
            var list1 = entityManager.persist(aList().withOwner(owner).withTitle("List1").build());
            var list2 = entityManager.persist(aList().withOwner(owner).withTitle("List2").build());
@@ -58,19 +86,19 @@ public class ItemRepositoryTests {
            entityManager.persist(item3);
            entityManager.flush();
 
-           var result = itemRepository.findAllByListIdOrderByPositionAsc(list1.getId());
+           var result = itemRepository.findWindowByListId(list1.getId(), 0, 10);
 
            assertEquals(2, result.size());
     }
 
     @Test
-    void findAllByListIdOrderByPositionAsc_shouldReturnEmpty_whenNoItemsExist() {
+    void findWindowByListId_shouldReturnEmpty_whenNoItemsExist() {
            var owner = entityManager.persist(aUser().build());
            var list = entityManager.persist(aList().withOwner(owner).withTitle("List").build());
 
            entityManager.flush();
 
-           var result = itemRepository.findAllByListIdOrderByPositionAsc(list.getId());
+           var result = itemRepository.findWindowByListId(list.getId(), 0, 10);
 
            assertTrue(result.isEmpty());
     }
@@ -102,6 +130,33 @@ public class ItemRepositoryTests {
            assertTrue(result.isEmpty());
     }
 
+    @Test
+    void existsByIdAndListIdAndOwnerId_shouldReturnTrue_OnlyForItemOfOwnedList() {
+           var owner1 = entityManager.persist(aUser().build());
+           var owner2 = entityManager.persist(aUser().withName("Reiner").withEmail("reiner@mail.com").build());
+           var list1 = entityManager.persist(aList().withOwner(owner1).withTitle("List 1").build());
+           var list2 = entityManager.persist(aList().withOwner(owner1).withTitle("List 2").build());
+           var item = anItem().withList(list1).withPosition(1).build();
+
+           entityManager.persistAndFlush(item);
+
+           assertTrue(itemRepository.existsByIdAndListIdAndOwnerId(item.getId(), list1.getId(), owner1.getId()));
+           assertFalse(itemRepository.existsByIdAndListIdAndOwnerId(item.getId(), list2.getId(), owner1.getId()));
+           assertFalse(itemRepository.existsByIdAndListIdAndOwnerId(item.getId(), list1.getId(), owner2.getId()));
+    }
+
+    @Test
+    void existsByIdAndListIdAndOwnerId_shouldReturnFalse_whenItemIsDeleted() {
+           var owner = entityManager.persist(aUser().build());
+           var list = entityManager.persist(aList().withOwner(owner).withTitle("List").build());
+           var item = anItem().withList(list).withPosition(1).build();
+           item.setDeleted(true);
+
+           entityManager.persistAndFlush(item);
+
+           assertFalse(itemRepository.existsByIdAndListIdAndOwnerId(item.getId(), list.getId(), owner.getId()));
+    }
+
     @Test
     void findByIdAndListId_shouldReturnEmpty_whenListMatchesButItemDiffers() {
            var owner = entityManager.persist(aUser().build());
@@ -116,42 +171,274 @@ public class ItemRepositoryTests {
     }
 
     @Test
-    void countByListId_shouldReturnCorrectCount_forListWithItems() {
+    void softDeleteByIdAndListId_shouldHideItem_whenListMatches() {
            var owner = entityManager.persist(aUser().build());
            var list = entityManager.persist(aList().withOwner(owner).withTitle("List").build());
-           var item = anItem().withList(list).withPosition(0).build();
-           var item2 = anItem().withList(list).withPosition(1).build();
+           var item = entityManager.persistAndFlush(anItem().withList(list).withPosition(10).build());
 
-           entityManager.persist(item2);
-           entityManager.persistAndFlush(item);
+           var result = itemRepository.softDeleteByIdAndListId(item.getId(), list.getId());
+           entityManager.clear();
 
-           var result = itemRepository.countByListId(list.getId());
+           assertEquals(1, result);
+           assertTrue(itemRepository.findByIdAndListId(item.getId(), list.getId()).isEmpty());
+    }
 
-           assertEquals(2, result);
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void evictItems_shouldOnlyRemoveGivenItems_FromSecondLevelCache() {
+        var owner = userRepository.save(aUser().build());
+        var list = listRepository.save(aList().withOwner(owner).withTitle("List").build());
+        var item = itemRepository.save(anItem().withList(list).withPosition(10).build());
+        var other = itemRepository.save(anItem().withList(list).withPosition(20).build());
+        var cache = entityManagerFactory.getCache();
+        try {
+            itemRepository.findById(item.getId());
+            itemRepository.findById(other.getId());
+            assertTrue(cache.contains(Item.class, item.getId()));
+
+            itemRepository.evictItems(list.getId(), List.of(item.getId()));
+
+            assertFalse(cache.contains(Item.class, item.getId()));
+            assertTrue(cache.contains(Item.class, other.getId()));
+        } finally {
+            userRepository.deleteById(owner.getId());
+        }
     }
 
     @Test
-    void countByListId_shouldReturnZero_forListWithoutItems() {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void updatePosition_shouldKeepOtherItems_InSecondLevelCache() {
+        var owner = userRepository.save(aUser().build());
+        var list = listRepository.save(aList().withOwner(owner).withTitle("List").build());
+        var item = itemRepository.save(anItem().withList(list).withPosition(10).build());
+        var other = itemRepository.save(anItem().withList(list).withPosition(20).build());
+        var cache = entityManagerFactory.getCache();
+        try {
+            itemRepository.findById(other.getId());
+
+            var result = new TransactionTemplate(transactionManager)
+                .execute(status -> itemRepository.updatePosition(item.getId(), list.getId(), 30));
+
+            assertEquals(1, result);
+            assertTrue(cache.contains(Item.class, other.getId()));
+        } finally {
+            userRepository.deleteById(owner.getId());
+        }
+    }
+
+    @Test
+    void softDeleteByIdAndListId_shouldReturnZero_whenListDiffers() {
            var owner = entityManager.persist(aUser().build());
-           var list = entityManager.persist(aList().withOwner(owner).withTitle("List").build());
-           entityManager.flush();
+           var list1 = entityManager.persist(aList().withOwner(owner).withTitle("List 1").build());
+           var list2 = entityManager.persist(aList().withOwner(owner).withTitle("List 2").build());
+           var item = entityManager.persistAndFlush(anItem().withList(list1).withPosition(10).build());
 
-           var result = itemRepository.countByListId(list.getId());
+           var result = itemRepository.softDeleteByIdAndListId(item.getId(), list2.getId());
 
            assertEquals(0, result);
     }
 
     @Test
-    void countByListId_doesNotCountItemsFromOtherLists() {
+    void findFragmentedListIds_shouldOnlyReturnListsWithCloseKeys() {
            var owner = entityManager.persist(aUser().build());
-           var list1 = entityManager.persist(aList().withOwner(owner).withTitle("List 1").build());
-           var list2 = entityManager.persist(aList().withOwner(owner).withTitle("List 2").build());
-           var item = anItem().withList(list2).withPosition(0).build();
+           var fragmented = entityManager.persist(aList().withOwner(owner).withTitle("List 1").build());
+           var spread = entityManager.persist(aList().withOwner(owner).withTitle("List 2").build());
+           entityManager.persist(anItem().withList(fragmented).withPosition(100).build());
+           entityManager.persist(anItem().withList(fragmented).withPosition(101).build());
+           entityManager.persist(anItem().withList(spread).withPosition(100).build());
+           entityManager.persistAndFlush(anItem().withList(spread).withPosition(1000).build());
 
-           entityManager.persistAndFlush(item);
+           var result = itemRepository.findFragmentedListIds(Instant.EPOCH, 64, 10);
 
-           var result = itemRepository.countByListId(list1.getId());
+           assertEquals(List.of(fragmented.getId()), result);
+    }
 
-           assertEquals(0, result);
+    @Test
+    void findFragmentedListIds_shouldIgnoreDeletedItems() {
+           var owner = entityManager.persist(aUser().build());
+           var list = entityManager.persist(aList().withOwner(owner).withTitle("List").build());
+           entityManager.persist(anItem().withList(list).withPosition(100).build());
+           entityManager.persistAndFlush(anItem().withList(list).withPosition(101).deleted().build());
+
+           var result = itemRepository.findFragmentedListIds(Instant.EPOCH, 64, 10);
+
+           assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void findFragmentedListIds_shouldIgnoreDeletedLists() {
+           var owner = entityManager.persist(aUser().build());
+           var list = entityManager.persist(aList().withOwner(owner).withTitle("List").deleted().build());
+           entityManager.persist(anItem().withList(list).withPosition(100).build());
+           entityManager.persistAndFlush(anItem().withList(list).withPosition(101).build());
+
+           var result = itemRepository.findFragmentedListIds(Instant.EPOCH, 64, 10);
+
+           assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void findFragmentedListIds_shouldIgnoreListsNotChangedSince() {
+           var owner = entityManager.persist(aUser().build());
+           var list = entityManager.persist(aList().withOwner(owner).withTitle("List").build());
+           entityManager.persist(anItem().withList(list).withPosition(100).build());
+           entityManager.persistAndFlush(anItem().withList(list).withPosition(101).build());
+
+           var result = itemRepository.findFragmentedListIds(Instant.now().plusSeconds(3600), 64, 10);
+
+           assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void findPositionsByListId_shouldReturnWindowOfSortedKeys() {
+           var owner = entityManager.persist(aUser().build());
+           var list = entityManager.persist(aList().withOwner(owner).withTitle("List").build());
+           entityManager.persist(anItem().withList(list).withPosition(30).build());
+           entityManager.persist(anItem().withList(list).withPosition(10).build());
+           entityManager.persist(anItem().withList(list).withPosition(20).deleted().build());
+           entityManager.persistAndFlush(anItem().withList(list).withPosition(40).build());
+
+           var result = itemRepository.findPositionsByListId(list.getId(), 1, 2);
+
+           assertEquals(List.of(30L, 40L), result);
+    }
+
+    @Test
+    void findLastPosition_shouldIgnoreDeletedItems() {
+           var owner = entityManager.persist(aUser().build());
+           var list = entityManager.persist(aList().withOwner(owner).withTitle("List").build());
+           entityManager.persist(anItem().withList(list).withPosition(10).build());
+           entityManager.persistAndFlush(anItem().withList(list).withPosition(20).deleted().build());
+
+           assertEquals(Long.valueOf(10), itemRepository.findLastPosition(list.getId()));
+    }
+
+    @Test
+    void findWindowByListId_shouldReturnLiveItemsAfterPosition() {
+        var owner = entityManager.persist(aUser().build());
+        var list = entityManager.persist(aList().withOwner(owner).build());
+        var other = entityManager.persist(aList().withOwner(owner).withTitle("Other").build());
+        entityManager.persist(anItem().withList(list).withPosition(10).build());
+        var second = entityManager.persist(anItem().withList(list).withPosition(20).build());
+        entityManager.persist(anItem().withList(list).withPosition(25).deleted().build());
+        var third = entityManager.persist(anItem().withList(list).withPosition(30).build());
+        entityManager.persist(anItem().withList(list).withPosition(40).build());
+        entityManager.persist(anItem().withList(other).withPosition(35).build());
+        entityManager.flush();
+
+        var result = itemRepository.findWindowByListId(list.getId(), 10, 2).stream()
+            .map(ItemSummaryDto::id).toList();
+
+        assertEquals(List.of(second.getId(), third.getId()), result);
+    }
+
+    @Test
+    void streamSummariesByListId_shouldStreamLiveItemsInOrder() {
+        var owner = entityManager.persist(aUser().build());
+        var list = entityManager.persist(aList().withOwner(owner).build());
+        var second = entityManager.persist(anItem().withList(list).withPosition(20).build());
+        var first = entityManager.persist(anItem().withList(list).withPosition(10).build());
+        entityManager.persist(anItem().withList(list).withPosition(15).deleted().build());
+        entityManager.flush();
+
+        List<UUID> result;
+        try (var items = itemRepository.streamSummariesByListId(list.getId())) {
+            result = items.map(ItemSummaryDto::id).toList();
+        }
+
+        assertEquals(List.of(first.getId(), second.getId()), result);
+    }
+
+    @Test
+    void findFieldsByListId_shouldOnlyReturnSelectedFields() {
+        var owner = entityManager.persist(aUser().build());
+        var list = entityManager.persist(aList().withOwner(owner).build());
+        entityManager.persist(anItem().withList(list).withPosition(10).build());
+        var second = entityManager.persist(anItem().withList(list).withPosition(20).build());
+        entityManager.persist(anItem().withList(list).withPosition(25).deleted().build());
+        var third = entityManager.persist(anItem().withList(list).withPosition(30).build());
+        entityManager.flush();
+
+        var result = itemRepository.findFieldsByListId(list.getId(), EnumSet.of(ItemField.TITLE), 10, 5);
+
+        assertEquals(2, result.size());
+        assertEquals(List.of("id", "title"), List.copyOf(result.get(0).keySet()));
+        assertEquals(second.getId(), result.get(0).get("id"));
+        assertEquals(second.getTitle(), result.get(0).get("title"));
+        assertEquals(third.getId(), result.get(1).get("id"));
+    }
+
+    @Test
+    void findFieldsByListId_shouldReturnAllItems_WhenNoWindowGiven() {
+        var owner = entityManager.persist(aUser().build());
+        var list = entityManager.persist(aList().withOwner(owner).build());
+        entityManager.persist(anItem().withList(list).withPosition(20).build());
+        entityManager.persist(anItem().withList(list).withPosition(10).build());
+        entityManager.flush();
+
+        var result = itemRepository.findFieldsByListId(list.getId(), EnumSet.of(ItemField.POSITION, ItemField.NOTES));
+
+        assertEquals(List.of("id", "notes", "position"), List.copyOf(result.get(0).keySet()));
+        assertEquals(10L, result.get(0).get("position"));
+        assertEquals(20L, result.get(1).get("position"));
+    }
+
+    @Test
+    void findChangesByOwnerId_shouldIncludeDeletedItems_OfOwnListsOnly() {
+        var owner = entityManager.persist(aUser().build());
+        var other = entityManager.persist(aUser().withName("Reiner").withEmail("reiner@mail.com").build());
+        var list = entityManager.persist(aList().withOwner(owner).build());
+        var foreign = entityManager.persist(aList().withOwner(other).build());
+        var live = entityManager.persist(anItem().withList(list).withPosition(10).build());
+        var deleted = entityManager.persist(anItem().withList(list).withPosition(20).deleted().build());
+        entityManager.persist(anItem().withList(foreign).withPosition(10).build());
+        entityManager.flush();
+
+        var result = itemRepository.findChangesByOwnerId(
+            owner.getId(), Instant.EPOCH, new UUID(0, 0), Duration.ZERO, 10);
+
+        assertEquals(2, result.size());
+        var liveChange = result.stream().filter(c -> c.id().equals(live.getId())).findFirst().orElseThrow();
+        var deletedChange = result.stream().filter(c -> c.id().equals(deleted.getId())).findFirst().orElseThrow();
+        assertEquals(list.getId(), liveChange.listId());
+        assertEquals(10L, liveChange.position());
+        assertFalse(liveChange.deleted());
+        assertTrue(deletedChange.deleted());
+    }
+
+    @Test
+    void findChangesByOwnerId_shouldContinueAfterCursor_AndHoldBackUnsettledChanges() {
+        var owner = entityManager.persist(aUser().build());
+        var list = entityManager.persist(aList().withOwner(owner).build());
+        entityManager.persist(anItem().withList(list).withPosition(10).build());
+        entityManager.persist(anItem().withList(list).withPosition(20).build());
+        entityManager.flush();
+
+        var all = itemRepository.findChangesByOwnerId(
+            owner.getId(), Instant.EPOCH, new UUID(0, 0), Duration.ZERO, 10);
+        var first = all.get(0);
+        var rest = itemRepository.findChangesByOwnerId(
+            owner.getId(), first.updatedAt(), first.id(), Duration.ZERO, 10);
+        var settled = itemRepository.findChangesByOwnerId(
+            owner.getId(), Instant.EPOCH, new UUID(0, 0), Duration.ofMinutes(1), 10);
+
+        assertEquals(2, all.size());
+        assertEquals(1, rest.size());
+        assertEquals(all.get(1).id(), rest.get(0).id());
+        assertTrue(settled.isEmpty());
+    }
+
+    @Test
+    void findByIdAndListId_shouldNotLoadNotes_UntilAccessed() {
+        var owner = entityManager.persist(aUser().build());
+        var list = entityManager.persist(aList().withOwner(owner).build());
+        var item = entityManager.persistAndFlush(anItem().withList(list).withPosition(10).build());
+        entityManager.clear();
+
+        var result = itemRepository.findByIdAndListId(item.getId(), list.getId()).orElseThrow();
+
+        assertFalse(Hibernate.isPropertyInitialized(result, "notes"));
+        assertEquals(item.getNotes(), result.getNotes());
+        assertTrue(Hibernate.isPropertyInitialized(result, "notes"));
     }
 }
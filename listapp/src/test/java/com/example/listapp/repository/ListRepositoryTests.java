@@ -1,15 +1,37 @@
 package com.example.listapp.repository;
 
+import static com.example.listapp.util.entities.ItemTestBuilder.anItem;
 import static com.example.listapp.util.entities.ListTestBuilder.aList;
 import static com.example.listapp.util.entities.UserTestBuilder.aUser;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.listapp.dto.list.ListDetailRow;
+import com.example.listapp.entity.ListEntity;
+import com.example.listapp.helper.ListField;
+
+import jakarta.persistence.EntityManagerFactory;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -18,65 +40,342 @@ public class ListRepositoryTests {
     @Autowired
     private ListRepository listRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
     @Autowired
     private TestEntityManager entityManager;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void findById_shouldKeepList_InSecondLevelCache() {
+        var owner = userRepository.save(aUser().build());
+        var list = listRepository.save(aList().withOwner(owner).withTitle("List").build());
+        var cache = entityManagerFactory.getCache();
+        try {
+            cache.evictAll();
+
+            listRepository.findById(list.getId());
+
+            assertTrue(cache.contains(ListEntity.class, list.getId()));
+        } finally {
+            userRepository.deleteById(owner.getId());
+        }
+    }
+
+    @Test
+    void existsByIdAndOwnerId_shouldReturnTrue_OnlyForOwner() {
+        var owner1 = entityManager.persist(aUser().build());
+        var owner2 = entityManager.persist(aUser().withName("Reiner").withEmail("reiner@mail.com").build());
+        var list = aList().withOwner(owner1).withTitle("List").build();
+
+        entityManager.persistAndFlush(list);
+
+        assertTrue(listRepository.existsByIdAndOwnerId(list.getId(), owner1.getId()));
+        assertFalse(listRepository.existsByIdAndOwnerId(list.getId(), owner2.getId()));
+        assertFalse(listRepository.existsByIdAndOwnerId(UUID.randomUUID(), owner1.getId()));
+    }
+
+    @Test
+    void existsByIdAndOwnerId_shouldReturnFalse_WhenListIsDeleted() {
+        var owner = entityManager.persist(aUser().build());
+        var list = aList().withOwner(owner).withTitle("List").build();
+        list.setDeleted(true);
+
+        entityManager.persistAndFlush(list);
+
+        assertFalse(listRepository.existsByIdAndOwnerId(list.getId(), owner.getId()));
+    }
+
+    @Test
+    void lockById_shouldOnlyFindLiveLists() {
+        var owner = entityManager.persist(aUser().build());
+        var list = entityManager.persist(aList().withOwner(owner).build());
+        var deleted = aList().withOwner(owner).build();
+        deleted.setDeleted(true);
+        entityManager.persistAndFlush(deleted);
+
+        assertEquals(Optional.of(0L), listRepository.lockById(list.getId()));
+        assertTrue(listRepository.lockById(deleted.getId()).isEmpty());
+        assertTrue(listRepository.lockById(UUID.randomUUID()).isEmpty());
+    }
+
     @Test
-    void findAllByOwnerId_shouldReturnLists_WhenOwnerMatches() {
+    void tryLockById_shouldOnlyFindLiveLists() {
         var owner = entityManager.persist(aUser().build());
-        var list1 = aList().withOwner(owner).withTitle("List 1").build();
-        var list2 = aList().withOwner(owner).withTitle("List 2").build();
+        var list = entityManager.persist(aList().withOwner(owner).build());
+        var deleted = aList().withOwner(owner).build();
+        deleted.setDeleted(true);
+        entityManager.persistAndFlush(deleted);
 
-        entityManager.persist(list1);
-        entityManager.persist(list2);
+        assertEquals(Optional.of(0L), listRepository.tryLockById(list.getId()));
+        assertTrue(listRepository.tryLockById(deleted.getId()).isEmpty());
+    }
+
+    @Test
+    void findHeaderByIdAndOwnerId_shouldNotLoadDescription_UntilAccessed() {
+        var owner = entityManager.persist(aUser().build());
+        var list = entityManager.persistAndFlush(aList().withOwner(owner).withTitle("List").build());
+        entityManager.clear();
+
+        var result = listRepository.findHeaderByIdAndOwnerId(list.getId(), owner.getId()).orElseThrow();
+
+        assertFalse(Hibernate.isPropertyInitialized(result, "description"));
+        assertEquals(list.getDescription(), result.getDescription());
+        assertTrue(Hibernate.isPropertyInitialized(result, "description"));
+    }
+
+    @Test
+    void findSummariesByOwnerId_shouldCountLiveItems() {
+        var owner = entityManager.persist(aUser().build());
+        var list = entityManager.persist(aList().withOwner(owner).withTitle("List").build());
+        var empty = entityManager.persist(aList().withOwner(owner).withTitle("Empty").build());
+        entityManager.persist(anItem().withList(list).withPosition(1).build());
+        entityManager.persist(anItem().withList(list).withPosition(2).build());
+        entityManager.persist(anItem().withList(list).withPosition(3).deleted().build());
         entityManager.flush();
 
-        var result = listRepository.findAllByOwnerId(owner.getId());
+        var result = listRepository.findSummariesByOwnerId(owner.getId(), 10);
 
         assertEquals(2, result.size());
+        var summary = result.stream().filter(s -> s.id().equals(list.getId())).findFirst().orElseThrow();
+        var emptySummary = result.stream().filter(s -> s.id().equals(empty.getId())).findFirst().orElseThrow();
+        assertEquals("List", summary.title());
+        assertEquals(2, summary.itemCount());
+        assertEquals(0, emptySummary.itemCount());
     }
 
     @Test
-    void findAllByOwnerId_shouldReturnEmpty_WhenOwnerDiffers() {
+    void findSummariesByOwnerId_shouldIgnoreDeletedAndForeignLists() {
         var owner1 = entityManager.persist(aUser().build());
         var owner2 = entityManager.persist(aUser().withName("Reiner").withEmail("reiner@mail.com").build());
-        var list1 = aList().withOwner(owner1).withTitle("List 1").build();
-        var list2 = aList().withOwner(owner2).withTitle("List 2").build();
+        var deleted = aList().withOwner(owner1).withTitle("Deleted").build();
+        deleted.markAsDeleted();
+        entityManager.persist(deleted);
+        entityManager.persist(aList().withOwner(owner2).withTitle("Foreign").build());
+        entityManager.flush();
+
+        var result = listRepository.findSummariesByOwnerId(owner1.getId(), 10);
+
+        assertTrue(result.isEmpty());
+    }
 
-        entityManager.persist(list1);
-        entityManager.persist(list2);
+    @Test
+    void findDetailByIdAndOwnerId_shouldReturnLiveItems_InOrder() {
+        var owner = entityManager.persist(aUser().build());
+        var list = entityManager.persist(aList().withOwner(owner).withTitle("List").build());
+        var second = entityManager.persist(anItem().withList(list).withPosition(20).build());
+        var first = entityManager.persist(anItem().withList(list).withPosition(10).build());
+        entityManager.persist(anItem().withList(list).withPosition(15).deleted().build());
         entityManager.flush();
+        entityManager.clear();
 
-        var result = listRepository.findAllByOwnerId(owner1.getId());
+        var result = listRepository.findDetailByIdAndOwnerId(list.getId(), owner.getId());
+
+        assertEquals(List.of(first.getId(), second.getId()),
+            result.subList(1, result.size()).stream().map(ListDetailRow::itemId).toList());
+        assertEquals(list.getDescription(), result.get(0).description());
+        assertEquals(owner.getName(), result.get(0).ownerName());
+        assertNull(result.get(0).itemId());
+        assertEquals(first.getNotes(), result.get(1).itemNotes());
+    }
+
+    @Test
+    void findDetailByIdAndOwnerId_shouldNotRepeatList_OnItemRows() {
+        var owner = entityManager.persist(aUser().build());
+        var list = entityManager.persist(aList().withOwner(owner).withTitle("List").build());
+        entityManager.persist(anItem().withList(list).withPosition(10).build());
+        entityManager.persist(anItem().withList(list).withPosition(20).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        var result = listRepository.findDetailByIdAndOwnerId(list.getId(), owner.getId());
+
+        assertEquals(3, result.size());
+        for (ListDetailRow row : result.subList(1, result.size())) {
+            assertNull(row.title());
+            assertNull(row.description());
+            assertNull(row.ownerName());
+        }
+    }
+
+    @Test
+    void findDetailByIdAndOwnerId_shouldReturnSingleRow_WhenListHasNoItems() {
+        var owner = entityManager.persist(aUser().build());
+        var list = entityManager.persistAndFlush(aList().withOwner(owner).withTitle("List").build());
+
+        var result = listRepository.findDetailByIdAndOwnerId(list.getId(), owner.getId());
 
         assertEquals(1, result.size());
+        assertEquals(list.getId(), result.get(0).id());
+        assertNull(result.get(0).itemId());
+    }
+
+    @Test
+    void findDetailByIdAndOwnerId_shouldReturnEmpty_WhenOwnerDiffers() {
+        var owner1 = entityManager.persist(aUser().build());
+        var owner2 = entityManager.persist(aUser().withName("Reiner").withEmail("reiner@mail.com").build());
+        var list = entityManager.persistAndFlush(aList().withOwner(owner1).withTitle("List").build());
+
+        var result = listRepository.findDetailByIdAndOwnerId(list.getId(), owner2.getId());
+
+        assertTrue(result.isEmpty());
     }
 
     @Test
-    void findByIdAndOwnerId_shouldReturnList_WhenOwnerMatches() {
+    void findHeaderByIdAndOwnerId_shouldFetchOwner_ButNotItems() {
         var owner = entityManager.persist(aUser().build());
-        var list = aList().withOwner(owner).withTitle("List").build();
+        var list = entityManager.persist(aList().withOwner(owner).withTitle("List").build());
+        entityManager.persist(anItem().withList(list).withPosition(10).build());
+        entityManager.flush();
+        entityManager.clear();
 
-        entityManager.persistAndFlush(list);
+        var result = listRepository.findHeaderByIdAndOwnerId(list.getId(), owner.getId()).orElseThrow();
 
-        var result = listRepository.findByIdAndOwnerId(list.getId(), owner.getId());
+        assertTrue(Hibernate.isInitialized(result.getOwner()));
+        assertFalse(Hibernate.isInitialized(result.getItems()));
+    }
 
-        assertTrue(result.isPresent());
+    @Test
+    void findHeaderByIdAndOwnerId_shouldReturnEmpty_WhenOwnerDiffers() {
+        var owner1 = entityManager.persist(aUser().build());
+        var owner2 = entityManager.persist(aUser().withName("Reiner").withEmail("reiner@mail.com").build());
+        var list = entityManager.persistAndFlush(aList().withOwner(owner1).withTitle("List").build());
+
+        var result = listRepository.findHeaderByIdAndOwnerId(list.getId(), owner2.getId());
+
+        assertTrue(result.isEmpty());
     }
 
     @Test
-    void findByIdAndOwnerId_shouldReturnEmpty_WhenOwnerDiffers() {
+    void findSummariesByOwnerIdAfter_shouldSeekPastCursor() {
+        var owner = entityManager.persist(aUser().build());
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(aList().withOwner(owner).withTitle("List " + i).build());
+        }
+        entityManager.flush();
+
+        var firstPage = listRepository.findSummariesByOwnerId(owner.getId(), 2);
+        var last = firstPage.get(1);
+        var rest = listRepository.findSummariesByOwnerIdAfter(owner.getId(), last.updatedAt(), last.id(), 10);
+
+        assertEquals(2, firstPage.size());
+        assertEquals(3, rest.size());
+        var seen = new HashSet<UUID>();
+        firstPage.forEach(s -> seen.add(s.id()));
+        rest.forEach(s -> seen.add(s.id()));
+        assertEquals(5, seen.size());
+    }
+
+    @Test
+    void findFieldsByIdAndOwnerId_shouldOnlyReturnSelectedFields() {
+        var owner = entityManager.persist(aUser().build());
+        var list = entityManager.persistAndFlush(aList().withOwner(owner).withTitle("List").build());
+
+        var result = listRepository.findFieldsByIdAndOwnerId(list.getId(), owner.getId(),
+            EnumSet.of(ListField.TITLE, ListField.OWNER)).orElseThrow();
+
+        assertEquals(List.of("id", "title", "owner"), List.copyOf(result.keySet()));
+        assertEquals("List", result.get("title"));
+        assertEquals(Map.of("id", owner.getId(), "name", owner.getName()), result.get("owner"));
+    }
+
+    @Test
+    void findFieldsByIdAndOwnerId_shouldReturnEmpty_WhenOwnerDiffers() {
         var owner1 = entityManager.persist(aUser().build());
         var owner2 = entityManager.persist(aUser().withName("Reiner").withEmail("reiner@mail.com").build());
-        var list1 = aList().withOwner(owner1).withTitle("List 1").build();
-        var list2 = aList().withOwner(owner2).withTitle("List 2").build();
+        var list = entityManager.persistAndFlush(aList().withOwner(owner1).withTitle("List").build());
+
+        var result = listRepository.findFieldsByIdAndOwnerId(list.getId(), owner2.getId(), EnumSet.of(ListField.TITLE));
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void findVersionStampByIdAndOwnerId_shouldChange_WhenItemsChange() {
+        var owner = entityManager.persist(aUser().build());
+        var list = entityManager.persist(aList().withOwner(owner).withTitle("List").build());
+        var item = entityManager.persist(anItem().withList(list).withPosition(10).build());
+        entityManager.flush();
 
-        entityManager.persist(list1);
-        entityManager.persist(list2);
+        var initial = listRepository.findVersionStampByIdAndOwnerId(list.getId(), owner.getId()).orElseThrow();
+        assertEquals(initial, listRepository.findVersionStampByIdAndOwnerId(list.getId(), owner.getId()).orElseThrow());
+
+        item.setTitle("Changed");
         entityManager.flush();
+        var updated = listRepository.findVersionStampByIdAndOwnerId(list.getId(), owner.getId()).orElseThrow();
 
-        var result = listRepository.findByIdAndOwnerId(list2.getId(), owner1.getId());
+        entityManager.persist(anItem().withList(list).withPosition(20).build());
+        entityManager.flush();
+        var added = listRepository.findVersionStampByIdAndOwnerId(list.getId(), owner.getId()).orElseThrow();
+
+        assertNotEquals(initial, updated);
+        assertNotEquals(updated, added);
+    }
+
+    @Test
+    void findVersionStampByIdAndOwnerId_shouldReturnEmpty_WhenOwnerDiffers() {
+        var owner1 = entityManager.persist(aUser().build());
+        var owner2 = entityManager.persist(aUser().withName("Reiner").withEmail("reiner@mail.com").build());
+        var list = entityManager.persistAndFlush(aList().withOwner(owner1).withTitle("List").build());
+
+        var result = listRepository.findVersionStampByIdAndOwnerId(list.getId(), owner2.getId());
 
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void findVersionStampByOwnerId_shouldChange_WhenListIsAdded() {
+        var owner = entityManager.persist(aUser().build());
+        entityManager.persistAndFlush(aList().withOwner(owner).withTitle("List").build());
+
+        var initial = listRepository.findVersionStampByOwnerId(owner.getId());
+        entityManager.persistAndFlush(aList().withOwner(owner).withTitle("Other").build());
+
+        assertNotEquals(initial, listRepository.findVersionStampByOwnerId(owner.getId()));
+    }
+
+    @Test
+    void findChangesByOwnerId_shouldIncludeDeletedLists_OfOwnerOnly() {
+        var owner = entityManager.persist(aUser().build());
+        var other = entityManager.persist(aUser().withName("Reiner").withEmail("reiner@mail.com").build());
+        var live = entityManager.persist(aList().withOwner(owner).withTitle("Live").build());
+        var deleted = entityManager.persist(aList().withOwner(owner).withTitle("Deleted").deleted().build());
+        entityManager.persist(aList().withOwner(other).withTitle("Foreign").build());
+        entityManager.flush();
+
+        var result = listRepository.findChangesByOwnerId(
+            owner.getId(), Instant.EPOCH, new UUID(0, 0), Duration.ZERO, 10);
+
+        assertEquals(2, result.size());
+        var liveChange = result.stream().filter(c -> c.id().equals(live.getId())).findFirst().orElseThrow();
+        var deletedChange = result.stream().filter(c -> c.id().equals(deleted.getId())).findFirst().orElseThrow();
+        assertEquals("Live", liveChange.title());
+        assertFalse(liveChange.deleted());
+        assertTrue(deletedChange.deleted());
+    }
+
+    @Test
+    void findChangesByOwnerId_shouldContinueAfterCursor_AndHoldBackUnsettledChanges() {
+        var owner = entityManager.persist(aUser().build());
+        entityManager.persist(aList().withOwner(owner).withTitle("List 1").build());
+        entityManager.persist(aList().withOwner(owner).withTitle("List 2").build());
+        entityManager.flush();
+
+        var all = listRepository.findChangesByOwnerId(
+            owner.getId(), Instant.EPOCH, new UUID(0, 0), Duration.ZERO, 10);
+        var first = all.get(0);
+        var rest = listRepository.findChangesByOwnerId(
+            owner.getId(), first.updatedAt(), first.id(), Duration.ZERO, 10);
+        var settled = listRepository.findChangesByOwnerId(
+            owner.getId(), Instant.EPOCH, new UUID(0, 0), Duration.ofMinutes(1), 10);
+
+        assertEquals(2, all.size());
+        assertEquals(1, rest.size());
+        assertEquals(all.get(1).id(), rest.get(0).id());
+        assertTrue(settled.isEmpty());
+    }
 }
@@ -0,0 +1,354 @@
+package com.example.listapp.repository;
+
+import static com.example.listapp.util.entities.ItemTestBuilder.anItem;
+import static com.example.listapp.util.entities.ListTestBuilder.aList;
+import static com.example.listapp.util.entities.UserTestBuilder.aUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.listapp.dto.item.ItemSummaryDto;
+import com.example.listapp.dto.sync.ItemChangeDto;
+import com.example.listapp.entity.Item;
+import com.example.listapp.entity.ListEntity;
+import com.example.listapp.entity.User;
+import com.example.listapp.helper.PackedUuids;
+import com.example.listapp.helper.Positions;
+import com.example.listapp.util.PostgresTestBase;
+
+@EnabledIf(value = PostgresTestBase.ENABLED, disabledReason = "Docker is not available")
+public class PostgresRepositoryTests extends PostgresTestBase {
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ListRepository listRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User owner;
+
+    @Test
+    void reorder_shouldApplyOrder_AndOnlyTouchMovedItems() {
+        var list = aPersistedList();
+        var a = persistItem(list, nth(0), "a");
+        var b = persistItem(list, nth(1), "b");
+        var c = persistItem(list, nth(2), "c");
+        entityManager.flush();
+
+        var result = itemRepository.reorder(list.getId(), PackedUuids.pack(List.of(b.getId(), a.getId(), c.getId())),
+            Positions.GAP);
+        entityManager.clear();
+
+        assertEquals(Set.of(a.getId(), b.getId()), Set.copyOf(result));
+        assertEquals(List.of(b.getId(), a.getId(), c.getId()), idsInOrder(list));
+    }
+
+    @Test
+    void reorder_shouldReturnNull_WhenOrderDoesNotMatchItems() {
+        var list = aPersistedList();
+        var other = aPersistedList();
+        var a = persistItem(list, nth(0), "a");
+        var b = persistItem(list, nth(1), "b");
+        var foreign = persistItem(other, nth(0), "foreign");
+        var deleted = entityManager.persist(anItem().withList(list).withPosition(nth(2)).deleted().build());
+        entityManager.flush();
+
+        var invalid = Collections.singletonList((UUID) null);
+        assertEquals(invalid, itemRepository.reorder(list.getId(), PackedUuids.pack(List.of(b.getId())), Positions.GAP));
+        assertEquals(invalid, itemRepository.reorder(list.getId(),
+            PackedUuids.pack(List.of(b.getId(), foreign.getId())), Positions.GAP));
+        assertEquals(invalid, itemRepository.reorder(list.getId(),
+            PackedUuids.pack(List.of(b.getId(), a.getId(), deleted.getId())), Positions.GAP));
+        entityManager.clear();
+
+        assertEquals(List.of(a.getId(), b.getId()), idsInOrder(list));
+    }
+
+    @Test
+    void reorder_shouldDecodeEveryPackedId_OfLargeOrders() {
+        var list = aPersistedList();
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i < 1_000; i++) {
+            ids.add(persistItem(list, nth(i), "item " + i).getId());
+        }
+        entityManager.flush();
+        Collections.reverse(ids);
+
+        var result = itemRepository.reorder(list.getId(), PackedUuids.pack(ids), Positions.GAP);
+        entityManager.clear();
+
+        assertEquals(ids.size(), result.size());
+        assertEquals(ids, idsInOrder(list));
+    }
+
+    @Test
+    void allocatePosition_shouldHandOutIncreasingKeys() {
+        var list = aPersistedList();
+
+        var first = listRepository.allocatePosition(list.getId(), Positions.GAP).orElseThrow();
+        var second = listRepository.allocatePosition(list.getId(), Positions.GAP).orElseThrow();
+
+        assertEquals(first + Positions.GAP, second);
+    }
+
+    @Test
+    void syncNextPosition_shouldRaiseCounter_AboveEveryKey() {
+        var list = aPersistedList();
+        persistItem(list, nth(5), "a");
+        entityManager.flush();
+
+        assertEquals(Optional.of(nth(5)), listRepository.syncNextPosition(list.getId()));
+        assertEquals(nth(6), listRepository.allocatePosition(list.getId(), Positions.GAP).orElseThrow());
+    }
+
+    @Test
+    void syncNextPosition_shouldReturnEmpty_WhenListIsDeleted() {
+        var list = entityManager.persistAndFlush(aList().withOwner(owner()).deleted().build());
+
+        assertTrue(listRepository.syncNextPosition(list.getId()).isEmpty());
+        assertTrue(listRepository.allocatePosition(list.getId(), Positions.GAP).isEmpty());
+    }
+
+    @Test
+    void renumber_shouldSpreadKeys_AndSkipItemsInPlace() {
+        var list = aPersistedList();
+        var a = persistItem(list, nth(0), "a");
+        var b = persistItem(list, nth(0) + 1, "b");
+        var c = persistItem(list, nth(0) + 2, "c");
+        entityManager.persist(anItem().withList(list).withPosition(nth(0) + 3).deleted().build());
+        entityManager.flush();
+
+        var result = itemRepository.renumber(list.getId(), Positions.GAP);
+        entityManager.clear();
+
+        assertEquals(Set.of(b.getId(), c.getId()), Set.copyOf(result));
+        assertEquals(List.of(a.getId(), b.getId(), c.getId()), idsInOrder(list));
+        assertEquals(List.of(nth(0), nth(1), nth(2)),
+            itemRepository.findPositionsByListId(list.getId(), 0, Integer.MAX_VALUE));
+        assertTrue(itemRepository.renumber(list.getId(), Positions.GAP).isEmpty());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void positionUniqueness_shouldOnlyBeCheckedAtCommit() {
+        var transaction = new TransactionTemplate(transactionManager);
+        var user = userRepository.save(aUser().build());
+        var list = listRepository.save(aList().withOwner(user).build());
+        var a = itemRepository.save(anItem().withList(list).withPosition(nth(0)).build());
+        var b = itemRepository.save(anItem().withList(list).withPosition(nth(1)).build());
+        try {
+            transaction.executeWithoutResult(status -> {
+                itemRepository.updatePosition(a.getId(), list.getId(), nth(1));
+                itemRepository.updatePosition(b.getId(), list.getId(), nth(0));
+            });
+
+            assertThrows(DataIntegrityViolationException.class, () -> transaction.executeWithoutResult(status ->
+                itemRepository.updatePosition(a.getId(), list.getId(), nth(0))));
+            assertEquals(List.of(b.getId(), a.getId()), idsInOrder(list));
+        } finally {
+            userRepository.deleteById(user.getId());
+        }
+    }
+
+    @Test
+    void findFragmentedListIds_shouldOnlyReturnLiveListsWithCloseKeys() {
+        var fragmented = aPersistedList();
+        var spread = aPersistedList();
+        var deleted = entityManager.persist(aList().withOwner(owner()).deleted().build());
+        for (ListEntity list : List.of(fragmented, deleted)) {
+            persistItem(list, nth(0), "a");
+            persistItem(list, nth(0) + 1, "b");
+        }
+        persistItem(spread, nth(0), "a");
+        persistItem(spread, nth(1), "b");
+        entityManager.flush();
+
+        var result = itemRepository.findFragmentedListIds(Instant.EPOCH, 64, 10);
+
+        assertEquals(List.of(fragmented.getId()), result);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void tryLockById_shouldSkipList_WhileAnotherTransactionHoldsItsLock() throws Exception {
+        var transaction = new TransactionTemplate(transactionManager);
+        var user = userRepository.save(aUser().build());
+        var list = listRepository.save(aList().withOwner(user).build());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Callable<Boolean> tryLock = () -> transaction.execute(status ->
+                listRepository.tryLockById(list.getId()).isPresent());
+
+            transaction.executeWithoutResult(status -> {
+                listRepository.lockById(list.getId()).orElseThrow();
+                try {
+                    assertFalse(executor.submit(tryLock).get(10, TimeUnit.SECONDS));
+                } catch (InterruptedException | ExecutionException | TimeoutException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            assertTrue(executor.submit(tryLock).get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+            userRepository.deleteById(user.getId());
+        }
+    }
+
+    @Test
+    void transfer_shouldPlaceItems_InOrderOfPassedIds() {
+        var source = aPersistedList();
+        var target = aPersistedList();
+        var a = persistItem(source, nth(0), "a");
+        var b = persistItem(source, nth(1), "b");
+        var x = persistItem(target, nth(0), "x");
+        var y = persistItem(target, nth(1), "y");
+        entityManager.flush();
+
+        var result = itemRepository.transfer(source.getId(), target.getId(),
+            new UUID[] {b.getId(), a.getId()}, nth(0), Positions.GAP / 3);
+        entityManager.clear();
+
+        assertEquals(Set.of(a.getId(), b.getId()), Set.copyOf(result));
+        assertEquals(List.of(x.getId(), b.getId(), a.getId(), y.getId()), idsInOrder(target));
+        assertTrue(idsInOrder(source).isEmpty());
+    }
+
+    @Test
+    void transfer_shouldSkipItems_NotInSourceList() {
+        var source = aPersistedList();
+        var target = aPersistedList();
+        var a = persistItem(source, nth(0), "a");
+        var foreign = persistItem(target, nth(0), "foreign");
+        entityManager.flush();
+
+        var result = itemRepository.transfer(source.getId(), target.getId(),
+            new UUID[] {a.getId(), foreign.getId()}, nth(1), Positions.GAP);
+
+        assertEquals(List.of(a.getId()), result);
+    }
+
+    @Test
+    void sort_shouldKeepCurrentOrder_OfTies() {
+        var list = aPersistedList();
+        var earlierB = persistItem(list, nth(0), "b");
+        var a = persistItem(list, nth(1), "A");
+        var laterB = persistItem(list, nth(2), "B");
+        var c = persistItem(list, nth(3), "c");
+        entityManager.flush();
+
+        itemRepository.sort(list.getId(), "title", false, Positions.GAP);
+        entityManager.clear();
+
+        assertEquals(List.of(a.getId(), earlierB.getId(), laterB.getId(), c.getId()), idsInOrder(list));
+    }
+
+    @Test
+    void sort_shouldReturnNothing_WhenAlreadySorted() {
+        var list = aPersistedList();
+        var c = persistItem(list, nth(0), "c");
+        persistItem(list, nth(1), "b");
+        var a = persistItem(list, nth(2), "a");
+        entityManager.flush();
+
+        assertEquals(Set.of(a.getId(), c.getId()),
+            Set.copyOf(itemRepository.sort(list.getId(), "title", false, Positions.GAP)));
+        assertTrue(itemRepository.sort(list.getId(), "title", false, Positions.GAP).isEmpty());
+    }
+
+    @Test
+    void sort_shouldKeepAllItems_WhenShuffled() {
+        var list = aPersistedList();
+        var a = persistItem(list, nth(0), "a");
+        var b = persistItem(list, nth(1), "b");
+        var c = persistItem(list, nth(2), "c");
+        entityManager.flush();
+
+        itemRepository.sort(list.getId(), "random", false, Positions.GAP);
+        entityManager.clear();
+
+        var positions = itemRepository.findPositionsByListId(list.getId(), 0, Integer.MAX_VALUE);
+        assertEquals(Set.of(a.getId(), b.getId(), c.getId()), Set.copyOf(idsInOrder(list)));
+        assertEquals(List.of(nth(0), nth(1), nth(2)), positions);
+    }
+
+    @Test
+    void findChangesByOwnerId_shouldHoldBackChanges_ByDatabaseClock() {
+        var list = aPersistedList();
+        var stamped = persistItem(list, nth(0), "a");
+        var renumbered = persistItem(list, nth(0) + 1, "b");
+        entityManager.flush();
+        itemRepository.renumber(list.getId(), Positions.GAP);
+        entityManager.clear();
+
+        var changes = itemRepository.findChangesByOwnerId(
+            owner().getId(), Instant.EPOCH, new UUID(0, 0), Duration.ZERO, 10);
+        var settled = itemRepository.findChangesByOwnerId(
+            owner().getId(), Instant.EPOCH, new UUID(0, 0), Duration.ofMinutes(1), 10);
+
+        assertEquals(Set.of(stamped.getId(), renumbered.getId()),
+            Set.copyOf(changes.stream().map(ItemChangeDto::id).toList()));
+        assertTrue(settled.isEmpty());
+    }
+
+    private User owner() {
+        if (owner == null) {
+            owner = entityManager.persist(aUser().build());
+        }
+        return owner;
+    }
+
+    private ListEntity aPersistedList() {
+        return entityManager.persist(aList().withOwner(owner()).build());
+    }
+
+    private Item persistItem(ListEntity list, long position, String title) {
+        var item = anItem().withList(list).withPosition(position).build();
+        item.setTitle(title);
+        return entityManager.persist(item);
+    }
+
+    private List<UUID> idsInOrder(ListEntity list) {
+        return itemRepository.findWindowByListId(list.getId(), Positions.START, Integer.MAX_VALUE).stream()
+            .map(ItemSummaryDto::id).toList();
+    }
+
+    private static long nth(int index) {
+        return (index + 1) * Positions.GAP;
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.listapp.repository;
 
+import static com.example.listapp.util.entities.ItemTestBuilder.anItem;
+import static com.example.listapp.util.entities.ListTestBuilder.aList;
 import static com.example.listapp.util.entities.UserTestBuilder.aUser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -97,4 +101,47 @@ public class UserRepositoryTests {
 
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void findVersionStampById_shouldChange_WhenUserChanges() {
+        User user = entityManager.persistAndFlush(aUser().withName("Thomas").build());
+
+        var initial = userRepository.findVersionStampById(user.getId()).orElseThrow();
+        user.setName("Tom");
+        entityManager.flush();
+
+        assertNotEquals(initial, userRepository.findVersionStampById(user.getId()).orElseThrow());
+    }
+
+    @Test
+    void findWithListSummariesById_shouldCountLiveItems_OfLiveLists() {
+        User user = entityManager.persist(aUser().build());
+        var list = entityManager.persist(aList().withOwner(user).withTitle("List").build());
+        entityManager.persist(aList().withOwner(user).withTitle("Deleted").deleted().build());
+        entityManager.persist(anItem().withList(list).withPosition(1).build());
+        entityManager.persist(anItem().withList(list).withPosition(2).build());
+        entityManager.persist(anItem().withList(list).withPosition(3).deleted().build());
+        entityManager.flush();
+        entityManager.clear();
+
+        var result = userRepository.findWithListSummariesById(user.getId());
+
+        assertEquals(1, result.size());
+        assertEquals(user.getId(), result.get(0).id());
+        assertEquals(user.getName(), result.get(0).name());
+        assertEquals(list.getId(), result.get(0).listId());
+        assertEquals("List", result.get(0).listTitle());
+        assertEquals(2, result.get(0).listItemCount());
+    }
+
+    @Test
+    void findWithListSummariesById_shouldReturnSingleRow_WhenUserHasNoLists() {
+        User user = entityManager.persistAndFlush(aUser().build());
+
+        var result = userRepository.findWithListSummariesById(user.getId());
+
+        assertEquals(1, result.size());
+        assertEquals(user.getEmail(), result.get(0).email());
+        assertNull(result.get(0).listId());
+    }
 }
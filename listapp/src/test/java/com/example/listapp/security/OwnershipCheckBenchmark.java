@@ -0,0 +1,148 @@
+package com.example.listapp.security;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.example.listapp.service.security.ItemSecurityService;
+import com.example.listapp.service.security.ListSecurityService;
+
+/**
+ * Compares the ownership check of an item endpoint through the
+ * OwnershipInterceptor with the SpEL @PreAuthorize expression it replaced.
+ *
+ * Both paths ask security services that grant access right away, so only
+ * the cost of the authorization layer itself is measured. The queries the
+ * SpEL path ran against the database come on top of it.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OwnershipCheckBenchmark {
+
+    private final UUID listId = UUID.randomUUID();
+
+    private final UUID itemId = UUID.randomUUID();
+
+    private GenericApplicationContext context;
+
+    private Handlers proxy;
+
+    private OwnershipInterceptor interceptor;
+
+    private HandlerMethod handlerMethod;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        ItemSecurityService itemSecurity = new GrantingItemSecurity();
+        context = new GenericApplicationContext();
+        context.registerBean("itemSecurity", ItemSecurityService.class, () -> itemSecurity);
+        context.refresh();
+
+        DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        expressionHandler.setApplicationContext(context);
+        PreAuthorizeAuthorizationManager manager = new PreAuthorizeAuthorizationManager();
+        manager.setExpressionHandler(expressionHandler);
+        ProxyFactory proxyFactory = new ProxyFactory(new Handlers());
+        proxyFactory.addAdvice(AuthorizationManagerBeforeMethodInterceptor.preAuthorize(manager));
+        proxy = (Handlers) proxyFactory.getProxy();
+
+        interceptor = new OwnershipInterceptor(new GrantingListSecurity(), itemSecurity);
+        handlerMethod = new HandlerMethod(new Handlers(),
+            Handlers.class.getMethod("getItemByInterceptor", UUID.class, UUID.class));
+        request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+            Map.of("listId", listId.toString(), "id", itemId.toString()));
+        response = new MockHttpServletResponse();
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new TestingAuthenticationToken("user", null, "ROLE_USER"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public UUID preAuthorize() {
+        return proxy.getItemByExpression(listId, itemId);
+    }
+
+    @Benchmark
+    public UUID interceptor() throws Exception {
+        interceptor.preHandle(request, response, handlerMethod);
+        return ((Handlers) handlerMethod.getBean()).getItemByInterceptor(listId, itemId);
+    }
+
+    public static class Handlers {
+
+        @PreAuthorize("@itemSecurity.canAccessItem(#listId, #id)")
+        public UUID getItemByExpression(UUID listId, UUID id) {
+            return id;
+        }
+
+        @RequiresOwnership(item = "id")
+        public UUID getItemByInterceptor(UUID listId, UUID id) {
+            return id;
+        }
+    }
+
+    private static final class GrantingItemSecurity extends ItemSecurityService {
+
+        GrantingItemSecurity() {
+            super(null, null, null);
+        }
+
+        @Override
+        public boolean canAccessItem(UUID listId, UUID itemId) {
+            return true;
+        }
+    }
+
+    private static final class GrantingListSecurity extends ListSecurityService {
+
+        GrantingListSecurity() {
+            super(null, null, null);
+        }
+
+        @Override
+        public boolean isOwner(UUID listId) {
+            return true;
+        }
+    }
+}
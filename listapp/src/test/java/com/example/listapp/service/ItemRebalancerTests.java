@@ -0,0 +1,72 @@
+package com.example.listapp.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.listapp.repository.ItemRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemRebalancerTests {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private ItemService itemService;
+
+    private ItemRebalancer itemRebalancer;
+
+    @BeforeEach
+    void setUp() {
+        itemRebalancer = new ItemRebalancer(itemRepository, itemService, 64, 10, Duration.ofMinutes(15));
+    }
+
+    @Test
+    void rebalance_ShouldRenumberEachFragmentedList() {
+        UUID list1 = UUID.randomUUID();
+        UUID list2 = UUID.randomUUID();
+        when(itemRepository.findFragmentedListIds(any(Instant.class), eq(64L), eq(10))).thenReturn(List.of(list1, list2));
+
+        itemRebalancer.rebalance();
+
+        verify(itemService).rebalanceList(list1);
+        verify(itemService).rebalanceList(list2);
+    }
+
+    @Test
+    void rebalance_ShouldOnlyInspectListsChangedWithinLookback() {
+        when(itemRepository.findFragmentedListIds(any(Instant.class), eq(64L), eq(10))).thenReturn(List.of());
+        Instant before = Instant.now();
+
+        itemRebalancer.rebalance();
+
+        verify(itemRepository).findFragmentedListIds(
+            argThat(since -> !since.isBefore(before.minus(Duration.ofMinutes(15)))
+                && since.isBefore(before)),
+            eq(64L), eq(10));
+    }
+
+    @Test
+    void rebalance_ShouldDoNothing_WhenNoListIsFragmented() {
+        when(itemRepository.findFragmentedListIds(any(Instant.class), eq(64L), eq(10))).thenReturn(List.of());
+
+        itemRebalancer.rebalance();
+
+        verifyNoInteractions(itemService);
+    }
+}
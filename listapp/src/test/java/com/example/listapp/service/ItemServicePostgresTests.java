@@ -0,0 +1,185 @@
+package com.example.listapp.service;
+
+import static com.example.listapp.util.entities.ItemTestBuilder.anItem;
+import static com.example.listapp.util.entities.ListTestBuilder.aList;
+import static com.example.listapp.util.entities.UserTestBuilder.aUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.listapp.dto.item.ItemCreateDto;
+import com.example.listapp.dto.item.ItemMoveDto;
+import com.example.listapp.dto.item.ItemSummaryDto;
+import com.example.listapp.entity.Item;
+import com.example.listapp.entity.ListEntity;
+import com.example.listapp.entity.User;
+import com.example.listapp.helper.Positions;
+import com.example.listapp.mapper.ItemMapperImpl;
+import com.example.listapp.repository.ItemRepository;
+import com.example.listapp.repository.ListRepository;
+import com.example.listapp.repository.UserRepository;
+import com.example.listapp.util.PostgresTestBase;
+
+/**
+ * Runs concurrent writes of the same list against a real database, each
+ * within its own committed transaction.
+ */
+@EnabledIf(value = PostgresTestBase.ENABLED, disabledReason = "Docker is not available")
+@Import({ItemService.class, ItemMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ItemServicePostgresTests extends PostgresTestBase {
+
+    private static final int WRITERS = 8;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ListRepository listRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+
+    @AfterEach
+    void deleteOwner() {
+        if (owner != null) {
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", owner.getId());
+        }
+    }
+
+    @Test
+    void moveItem_shouldGiveConcurrentMovesIntoTheSameGap_DistinctKeys() throws Exception {
+        owner = userRepository.save(aUser().build());
+        ListEntity list = listRepository.save(aList().withOwner(owner).build());
+        Item first = itemRepository.save(anItem().withList(list).withPosition(nth(0)).build());
+        Item last = itemRepository.save(anItem().withList(list).withPosition(nth(1)).build());
+        List<UUID> moved = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            moved.add(itemRepository.save(anItem().withList(list).withPosition(nth(2 + i)).build()).getId());
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<?>> moves = new ArrayList<>();
+            for (UUID itemId : moved) {
+                moves.add(executor.submit(() -> {
+                    start.await();
+                    itemService.moveItem(list.getId(), new ItemMoveDto(itemId, null, first.getId()));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> move : moves) {
+                move.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<UUID> order = itemRepository.findWindowByListId(list.getId(), Positions.START, Integer.MAX_VALUE)
+            .stream().map(ItemSummaryDto::id).toList();
+        assertEquals(WRITERS + 2, order.size());
+        assertEquals(first.getId(), order.get(0));
+        assertEquals(last.getId(), order.get(order.size() - 1));
+    }
+
+    @Test
+    void createItem_shouldGiveConcurrentCreates_DistinctKeys() throws Exception {
+        owner = userRepository.save(aUser().build());
+        ListEntity list = listRepository.save(aList().withOwner(owner).build());
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<UUID>> creates = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                ItemCreateDto dto = new ItemCreateDto("Item " + i, null, null);
+                creates.add(executor.submit(() -> {
+                    start.await();
+                    return itemService.createItem(list.getId(), dto);
+                }));
+            }
+            start.countDown();
+            for (Future<UUID> create : creates) {
+                create.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Long> positions = itemRepository.findPositionsByListId(list.getId(), 0, Integer.MAX_VALUE);
+        assertEquals(WRITERS, Set.copyOf(positions).size());
+        assertEquals(nth(WRITERS - 1), positions.get(WRITERS - 1));
+    }
+
+    @Test
+    void moveItems_shouldCommitTransfersInOppositeDirections_WithoutDeadlock() throws Exception {
+        owner = userRepository.save(aUser().build());
+        ListEntity left = listRepository.save(aList().withOwner(owner).build());
+        ListEntity right = listRepository.save(aList().withOwner(owner).build());
+        List<UUID> fromLeft = new ArrayList<>();
+        List<UUID> fromRight = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            fromLeft.add(itemRepository.save(anItem().withList(left).withPosition(nth(i)).build()).getId());
+            fromRight.add(itemRepository.save(anItem().withList(right).withPosition(nth(i)).build()).getId());
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<?>> transfers = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                boolean toRight = i % 2 == 0;
+                UUID itemId = toRight ? fromLeft.get(i) : fromRight.get(i);
+                transfers.add(executor.submit(() -> {
+                    start.await();
+                    if (toRight) {
+                        itemService.moveItems(left.getId(), right.getId(), List.of(itemId), 0);
+                    } else {
+                        itemService.moveItems(right.getId(), left.getId(), List.of(itemId), 0);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> transfer : transfers) {
+                transfer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(WRITERS, itemRepository.findPositionsByListId(left.getId(), 0, Integer.MAX_VALUE).size());
+        assertEquals(WRITERS, itemRepository.findPositionsByListId(right.getId(), 0, Integer.MAX_VALUE).size());
+    }
+
+    private static long nth(int index) {
+        return (index + 1) * Positions.GAP;
+    }
+}
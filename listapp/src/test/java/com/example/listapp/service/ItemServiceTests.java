@@ -5,28 +5,54 @@ import static com.example.listapp.util.entities.ListTestBuilder.aList;
 import static com.example.listapp.util.entities.UserTestBuilder.aUser;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import com.example.listapp.dto.item.ItemCreateDto;
+import com.example.listapp.dto.item.ItemFieldsPageDto;
+import com.example.listapp.dto.item.ItemMoveDto;
+import com.example.listapp.dto.item.ItemPageDto;
+import com.example.listapp.dto.item.ItemReorderDto;
+import com.example.listapp.dto.item.ItemSummaryDto;
 import com.example.listapp.dto.item.ItemUpdateDto;
 import com.example.listapp.entity.Item;
 import com.example.listapp.entity.ListEntity;
 import com.example.listapp.entity.User;
+import com.example.listapp.exception.custom.InvalidInputException;
 import com.example.listapp.exception.custom.ResourceNotFoundException;
+import com.example.listapp.helper.ItemField;
+import com.example.listapp.helper.PackedUuids;
+import com.example.listapp.helper.Positions;
 import com.example.listapp.mapper.ItemMapper;
 import com.example.listapp.repository.ItemRepository;
 import com.example.listapp.repository.ListRepository;
@@ -50,6 +76,11 @@ public class ItemServiceTests {
     @Mock
     SecurityUtil securityUtil;
 
+    @BeforeEach
+    void lockExistingLists() {
+        lenient().when(listRepository.lockById(any())).thenReturn(Optional.of(0L));
+    }
+
     @AfterEach
     void clearSecurityContext() {
         SecurityContextHolder.clearContext();
@@ -59,8 +90,9 @@ public class ItemServiceTests {
     void createItem_ShouldReturnUUID_WhenListContainsItem() {
         User user = aUser().withId(UUID.randomUUID()).build();
         ListEntity list = aList().withId(UUID.randomUUID()).withOwner(user).withTitle("List 1").build();
-        when(listRepository.findById(list.getId())).thenReturn(Optional.of(list));
-        Item item = anItem().withId(UUID.randomUUID()).withList(list).build();
+        when(listRepository.allocatePosition(list.getId(), Positions.GAP)).thenReturn(Optional.of(Positions.GAP));
+        when(listRepository.getReferenceById(list.getId())).thenReturn(list);
+        Item item = anItem().withId(UUID.randomUUID()).build();
 
         ItemCreateDto dto = new ItemCreateDto(item.getTitle(), item.getNotes(), item.getImagePath());
         when(itemMapper.toEntity(dto)).thenReturn(item);
@@ -69,16 +101,35 @@ public class ItemServiceTests {
         UUID result = itemService.createItem(list.getId(), dto);
 
         assertNotNull(result);
+        assertEquals(list, item.getList());
         verify(itemRepository).save(item);
         verify(itemMapper).toEntity(dto);
     }
 
+    @Test
+    void createItem_ShouldUseAllocatedPosition() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        ListEntity list = aList().withId(UUID.randomUUID()).withOwner(user).withTitle("List 1").build();
+        when(listRepository.allocatePosition(list.getId(), Positions.GAP)).thenReturn(Optional.of(4 * Positions.GAP));
+        when(listRepository.getReferenceById(list.getId())).thenReturn(list);
+        Item item = anItem().withId(UUID.randomUUID()).withList(list).build();
+
+        ItemCreateDto dto = new ItemCreateDto(item.getTitle(), item.getNotes(), item.getImagePath());
+        when(itemMapper.toEntity(dto)).thenReturn(item);
+        when(itemRepository.save(item)).thenReturn(item);
+
+        itemService.createItem(list.getId(), dto);
+
+        assertEquals(Long.valueOf(4 * Positions.GAP), item.getPosition());
+    }
+
     @Test
     void createItem_ShouldThrowException_WhenListDoesNotExist() {
         Item item = anItem().withId(UUID.randomUUID()).build();
         ItemCreateDto dto = new ItemCreateDto(item.getTitle(), item.getNotes(), item.getImagePath());
 
         assertThrows(ResourceNotFoundException.class, () -> itemService.createItem(UUID.randomUUID(), dto));
+        verifyNoInteractions(itemRepository);
     }
 
     @Test
@@ -141,17 +192,399 @@ public class ItemServiceTests {
         assertThrows(ResourceNotFoundException.class, () -> itemService.updateItem(list.getId(), UUID.randomUUID(), dto));
     }
 
+    @Test
+    void reorderItems_ShouldPersistOrderInOneStatement() {
+        UUID listId = UUID.randomUUID();
+        UUID item1 = UUID.randomUUID();
+        UUID item2 = UUID.randomUUID();
+        when(itemRepository.reorder(eq(listId), any(byte[].class), eq(Positions.GAP))).thenReturn(List.of(item2));
+
+        itemService.reorderItems(listId, new ItemReorderDto(List.of(item2, item1)));
+
+        InOrder order = inOrder(listRepository, itemRepository);
+        order.verify(listRepository).lockById(listId);
+        order.verify(itemRepository).reorder(eq(listId), aryEq(PackedUuids.pack(List.of(item2, item1))), eq(Positions.GAP));
+        verify(itemRepository).evictItems(listId, List.of(item2));
+        verify(listRepository).syncNextPosition(listId);
+    }
+
+    @Test
+    void reorderItems_ShouldNotEvict_WhenOrderIsUnchanged() {
+        UUID listId = UUID.randomUUID();
+        when(itemRepository.reorder(eq(listId), any(byte[].class), eq(Positions.GAP))).thenReturn(List.of());
+
+        itemService.reorderItems(listId, new ItemReorderDto(List.of(UUID.randomUUID(), UUID.randomUUID())));
+
+        verify(itemRepository, never()).evictItems(any(), any());
+        verify(listRepository, never()).syncNextPosition(any());
+    }
+
+    @Test
+    void reorderItems_ShouldThrowException_WhenOrderDoesNotMatchItems() {
+        UUID listId = UUID.randomUUID();
+        when(itemRepository.reorder(eq(listId), any(byte[].class), eq(Positions.GAP)))
+            .thenReturn(Collections.singletonList(null));
+
+        ItemReorderDto dto = new ItemReorderDto(List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+        assertThrows(InvalidInputException.class, () -> itemService.reorderItems(listId, dto));
+        verify(itemRepository, never()).evictItems(any(), any());
+    }
+
+    @Test
+    void reorderItems_ShouldThrowException_WhenOrderContainsDuplicates() {
+        UUID listId = UUID.randomUUID();
+        UUID itemId = UUID.randomUUID();
+
+        ItemReorderDto dto = new ItemReorderDto(List.of(itemId, itemId));
+
+        assertThrows(InvalidInputException.class, () -> itemService.reorderItems(listId, dto));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void reorderItems_ShouldThrowException_WhenPackedOrderIsTruncated() {
+        byte[] packed = PackedUuids.pack(List.of(UUID.randomUUID()));
+
+        assertThrows(InvalidInputException.class,
+            () -> itemService.reorderItems(UUID.randomUUID(), java.util.Arrays.copyOf(packed, 15)));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void reorderItems_ShouldThrowException_WhenPackedOrderIsEmpty() {
+        assertThrows(InvalidInputException.class,
+            () -> itemService.reorderItems(UUID.randomUUID(), new byte[0]));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void moveItem_ShouldPlaceItemBetweenNeighbours_WhenAfterIdGiven() {
+        UUID listId = UUID.randomUUID();
+        UUID itemId = UUID.randomUUID();
+        UUID afterId = UUID.randomUUID();
+        when(itemRepository.findPositionByIdAndListId(itemId, listId)).thenReturn(Optional.of(nth(5)));
+        when(itemRepository.findPositionByIdAndListId(afterId, listId)).thenReturn(Optional.of(nth(0)));
+        when(itemRepository.findNextPosition(listId, nth(0), itemId)).thenReturn(nth(1));
+
+        itemService.moveItem(listId, new ItemMoveDto(itemId, null, afterId));
+
+        verify(itemRepository).updatePosition(itemId, listId, nth(0) + Positions.GAP / 2);
+        verify(itemRepository).evictItems(listId, List.of(itemId));
+    }
+
+    @Test
+    void moveItem_ShouldPlaceItemAtStart_WhenBeforeFirstItem() {
+        UUID listId = UUID.randomUUID();
+        UUID itemId = UUID.randomUUID();
+        UUID beforeId = UUID.randomUUID();
+        when(itemRepository.findPositionByIdAndListId(itemId, listId)).thenReturn(Optional.of(nth(5)));
+        when(itemRepository.findPositionByIdAndListId(beforeId, listId)).thenReturn(Optional.of(nth(0)));
+        when(itemRepository.findPreviousPosition(listId, nth(0), itemId)).thenReturn(null);
+
+        itemService.moveItem(listId, new ItemMoveDto(itemId, beforeId, null));
+
+        verify(itemRepository).updatePosition(itemId, listId, Positions.GAP / 2);
+    }
+
+    @Test
+    void moveItem_ShouldRenumberList_WhenNeighboursAreAdjacent() {
+        UUID listId = UUID.randomUUID();
+        UUID itemId = UUID.randomUUID();
+        UUID afterId = UUID.randomUUID();
+        UUID beforeId = UUID.randomUUID();
+        when(itemRepository.findPositionByIdAndListId(itemId, listId)).thenReturn(Optional.of(nth(5)));
+        when(itemRepository.findPositionByIdAndListId(afterId, listId)).thenReturn(Optional.of(10L), Optional.of(nth(0)));
+        when(itemRepository.findPositionByIdAndListId(beforeId, listId)).thenReturn(Optional.of(11L), Optional.of(nth(1)));
+
+        itemService.moveItem(listId, new ItemMoveDto(itemId, beforeId, afterId));
+
+        verify(itemRepository).renumber(listId, Positions.GAP);
+        verify(itemRepository).updatePosition(itemId, listId, nth(0) + Positions.GAP / 2);
+    }
+
+    @Test
+    void moveItem_ShouldAdvanceCounter_WhenMovedToEnd_SoCreatedItemsFollow() {
+        UUID listId = UUID.randomUUID();
+        UUID firstId = UUID.randomUUID();
+        UUID lastId = UUID.randomUUID();
+        AtomicLong counter = new AtomicLong(nth(1));
+        AtomicLong moved = new AtomicLong();
+        when(itemRepository.findPositionByIdAndListId(firstId, listId)).thenReturn(Optional.of(nth(0)));
+        when(itemRepository.findPositionByIdAndListId(lastId, listId)).thenReturn(Optional.of(nth(1)));
+        when(itemRepository.findNextPosition(listId, nth(1), firstId)).thenReturn(null);
+        when(itemRepository.updatePosition(eq(firstId), eq(listId), anyLong())).thenAnswer(invocation -> {
+            moved.set(invocation.getArgument(2));
+            return 1;
+        });
+        when(listRepository.syncNextPosition(listId)).thenAnswer(invocation ->
+            Optional.of(counter.accumulateAndGet(moved.get(), Math::max)));
+        when(listRepository.allocatePosition(listId, Positions.GAP))
+            .thenAnswer(invocation -> Optional.of(counter.addAndGet(Positions.GAP)));
+        ListEntity list = aList().withId(listId).build();
+        when(listRepository.getReferenceById(listId)).thenReturn(list);
+        Item created = anItem().withId(UUID.randomUUID()).build();
+        ItemCreateDto dto = new ItemCreateDto(created.getTitle(), created.getNotes(), created.getImagePath());
+        when(itemMapper.toEntity(dto)).thenReturn(created);
+        when(itemRepository.save(created)).thenReturn(created);
+
+        itemService.moveItem(listId, new ItemMoveDto(firstId, null, lastId));
+        itemService.createItem(listId, dto);
+
+        assertEquals(nth(2), moved.get());
+        assertTrue(created.getPosition() > moved.get());
+    }
+
+    @Test
+    void moveItem_ShouldThrowException_WhenNoNeighbourGiven() {
+        UUID listId = UUID.randomUUID();
+
+        assertThrows(InvalidInputException.class,
+            () -> itemService.moveItem(listId, new ItemMoveDto(UUID.randomUUID(), null, null)));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void moveItem_ShouldLockList_BeforeReadingNeighbours() {
+        UUID listId = UUID.randomUUID();
+        UUID itemId = UUID.randomUUID();
+        UUID afterId = UUID.randomUUID();
+        when(itemRepository.findPositionByIdAndListId(itemId, listId)).thenReturn(Optional.of(nth(5)));
+        when(itemRepository.findPositionByIdAndListId(afterId, listId)).thenReturn(Optional.of(nth(0)));
+        when(itemRepository.findNextPosition(listId, nth(0), itemId)).thenReturn(nth(1));
+
+        itemService.moveItem(listId, new ItemMoveDto(itemId, null, afterId));
+
+        InOrder order = inOrder(listRepository, itemRepository);
+        order.verify(listRepository).lockById(listId);
+        order.verify(itemRepository).findPositionByIdAndListId(afterId, listId);
+        order.verify(itemRepository).updatePosition(eq(itemId), eq(listId), anyLong());
+    }
+
+    @Test
+    void moveItem_ShouldThrowException_WhenListDoesNotExist() {
+        UUID listId = UUID.randomUUID();
+        when(listRepository.lockById(listId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> itemService.moveItem(listId, new ItemMoveDto(UUID.randomUUID(), UUID.randomUUID(), null)));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void moveItem_ShouldThrowException_WhenItemDoesNotExist() {
+        UUID listId = UUID.randomUUID();
+        UUID itemId = UUID.randomUUID();
+        when(itemRepository.findPositionByIdAndListId(itemId, listId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> itemService.moveItem(listId, new ItemMoveDto(itemId, UUID.randomUUID(), null)));
+    }
+
+    @Test
+    void moveItems_ShouldAppendItems_WhenTargetIndexBeyondEnd() {
+        UUID sourceId = UUID.randomUUID();
+        UUID targetId = UUID.randomUUID();
+        List<UUID> itemIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(itemRepository.findPositionsByListId(targetId, 4, 2)).thenReturn(List.of());
+        when(itemRepository.findLastPosition(targetId)).thenReturn(nth(2));
+        when(itemRepository.transfer(eq(sourceId), eq(targetId), aryEq(itemIds.toArray(UUID[]::new)),
+            eq(nth(2)), eq(Positions.GAP))).thenReturn(itemIds);
+        when(listRepository.syncNextPosition(targetId)).thenReturn(Optional.of(nth(4)));
+
+        itemService.moveItems(sourceId, targetId, itemIds, 5);
+
+        verify(itemRepository).evictItems(sourceId, itemIds);
+        verify(itemRepository).evictItems(targetId, List.of());
+        verify(listRepository).syncNextPosition(targetId);
+    }
+
+    @Test
+    void moveItems_ShouldPlaceItemsBeforeFirstItem_WhenTargetIndexIsZero() {
+        UUID sourceId = UUID.randomUUID();
+        UUID targetId = UUID.randomUUID();
+        List<UUID> itemIds = List.of(UUID.randomUUID());
+        when(itemRepository.findPositionsByListId(targetId, 0, 1)).thenReturn(List.of(nth(0)));
+        when(itemRepository.transfer(eq(sourceId), eq(targetId), any(),
+            eq(Positions.START), eq(Positions.GAP / 2))).thenReturn(itemIds);
+        when(listRepository.syncNextPosition(targetId)).thenReturn(Optional.of(nth(0)));
+
+        itemService.moveItems(sourceId, targetId, itemIds, 0);
+
+        verify(itemRepository, never()).renumber(any(), eq(Positions.GAP));
+    }
+
+    @Test
+    void moveItems_ShouldRenumberTarget_WhenNoRoomBetweenNeighbours() {
+        UUID sourceId = UUID.randomUUID();
+        UUID targetId = UUID.randomUUID();
+        List<UUID> itemIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(itemRepository.findPositionsByListId(targetId, 0, 2))
+            .thenReturn(List.of(10L, 12L), List.of(nth(0), nth(1)));
+        when(itemRepository.transfer(eq(sourceId), eq(targetId), any(),
+            eq(nth(0)), eq(Positions.GAP / 3))).thenReturn(itemIds);
+        when(listRepository.syncNextPosition(targetId)).thenReturn(Optional.of(nth(3)));
+
+        itemService.moveItems(sourceId, targetId, itemIds, 1);
+
+        verify(itemRepository).renumber(targetId, Positions.GAP);
+    }
+
+    @Test
+    void moveItems_ShouldThrowException_WhenItemsDoNotBelongToSource() {
+        UUID sourceId = UUID.randomUUID();
+        UUID targetId = UUID.randomUUID();
+        List<UUID> itemIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(itemRepository.findPositionsByListId(targetId, 0, 1)).thenReturn(List.of());
+        when(itemRepository.transfer(eq(sourceId), eq(targetId), any(), eq(Positions.START), eq(Positions.GAP)))
+            .thenReturn(List.of(itemIds.get(0)));
+
+        assertThrows(InvalidInputException.class, () -> itemService.moveItems(sourceId, targetId, itemIds, 0));
+        verify(listRepository, never()).syncNextPosition(any());
+    }
+
+    @Test
+    void moveItems_ShouldLockBothLists_InTheSameOrder_WhateverTheDirection() {
+        UUID lower = new UUID(0, 1);
+        UUID upper = new UUID(0, 2);
+        List<UUID> itemIds = List.of(UUID.randomUUID());
+        when(itemRepository.transfer(any(), any(), any(), anyLong(), anyLong())).thenReturn(itemIds);
+        when(listRepository.syncNextPosition(any())).thenReturn(Optional.of(nth(0)));
+
+        itemService.moveItems(lower, upper, itemIds, 0);
+        itemService.moveItems(upper, lower, itemIds, 0);
+
+        InOrder order = inOrder(listRepository);
+        order.verify(listRepository).lockById(lower);
+        order.verify(listRepository).lockById(upper);
+        order.verify(listRepository).lockById(lower);
+        order.verify(listRepository).lockById(upper);
+    }
+
+    @Test
+    void moveItems_ShouldThrowException_WhenSourceListDoesNotExist() {
+        UUID sourceId = UUID.randomUUID();
+        when(listRepository.lockById(sourceId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> itemService.moveItems(sourceId, UUID.randomUUID(), List.of(UUID.randomUUID()), 0));
+        verify(itemRepository, never()).transfer(any(), any(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void moveItems_ShouldThrowException_WhenTargetListDoesNotExist() {
+        UUID sourceId = UUID.randomUUID();
+        UUID targetId = UUID.randomUUID();
+        List<UUID> itemIds = List.of(UUID.randomUUID());
+        when(itemRepository.findPositionsByListId(targetId, 0, 1)).thenReturn(List.of());
+        when(itemRepository.transfer(eq(sourceId), eq(targetId), any(), eq(Positions.START), eq(Positions.GAP)))
+            .thenReturn(itemIds);
+
+        assertThrows(ResourceNotFoundException.class, () -> itemService.moveItems(sourceId, targetId, itemIds, 0));
+    }
+
+    @Test
+    void moveItems_ShouldThrowException_WhenSourceEqualsTarget() {
+        UUID listId = UUID.randomUUID();
+
+        assertThrows(InvalidInputException.class,
+            () -> itemService.moveItems(listId, listId, List.of(UUID.randomUUID()), 0));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void moveItems_ShouldThrowException_WhenDuplicateIds() {
+        UUID itemId = UUID.randomUUID();
+
+        assertThrows(InvalidInputException.class,
+            () -> itemService.moveItems(UUID.randomUUID(), UUID.randomUUID(), List.of(itemId, itemId), 0));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void sortItems_ShouldSortByTitleDescending() {
+        UUID listId = UUID.randomUUID();
+        List<UUID> sorted = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(itemRepository.sort(listId, "title", true, Positions.GAP)).thenReturn(sorted);
+
+        itemService.sortItems(listId, "title", "DESC");
+
+        InOrder order = inOrder(listRepository, itemRepository);
+        order.verify(listRepository).lockById(listId);
+        order.verify(itemRepository).sort(listId, "title", true, Positions.GAP);
+        verify(itemRepository).evictItems(listId, sorted);
+        verify(listRepository).syncNextPosition(listId);
+    }
+
+    @Test
+    void sortItems_ShouldNotTouchCounter_WhenAlreadySorted() {
+        UUID listId = UUID.randomUUID();
+        when(itemRepository.sort(listId, "createdAt", false, Positions.GAP)).thenReturn(List.of());
+
+        itemService.sortItems(listId, "createdAt", "asc");
+
+        verify(listRepository, never()).syncNextPosition(any());
+    }
+
+    @Test
+    void sortItems_ShouldThrowException_WhenFieldUnknown() {
+        assertThrows(InvalidInputException.class,
+            () -> itemService.sortItems(UUID.randomUUID(), "notes", "asc"));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void sortItems_ShouldThrowException_WhenDirectionUnknown() {
+        assertThrows(InvalidInputException.class,
+            () -> itemService.sortItems(UUID.randomUUID(), "title", "up"));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void shuffleItems_ShouldSortByRandomKey() {
+        UUID listId = UUID.randomUUID();
+
+        itemService.shuffleItems(listId);
+
+        verify(itemRepository).sort(listId, "random", false, Positions.GAP);
+    }
+
+    @Test
+    void rebalanceList_ShouldRenumberList() {
+        UUID listId = UUID.randomUUID();
+        List<UUID> renumbered = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(listRepository.tryLockById(listId)).thenReturn(Optional.of(0L));
+        when(itemRepository.renumber(listId, Positions.GAP)).thenReturn(renumbered);
+
+        int result = itemService.rebalanceList(listId);
+
+        assertEquals(3, result);
+        verify(itemRepository).evictItems(listId, renumbered);
+    }
+
+    @Test
+    void rebalanceList_ShouldSkipList_WhenLockIsHeld() {
+        UUID listId = UUID.randomUUID();
+        when(listRepository.tryLockById(listId)).thenReturn(Optional.empty());
+
+        int result = itemService.rebalanceList(listId);
+
+        assertEquals(0, result);
+        verifyNoInteractions(itemRepository);
+    }
+
     @Test
     void deleteItem_ShouldSoftDelete_WhenListBelongsToItem() {
         User user = aUser().withId(UUID.randomUUID()).build();
         ListEntity list = aList().withId(UUID.randomUUID()).withOwner(user).withTitle("List 1").build();
         Item item = anItem().withId(UUID.randomUUID()).withList(list).build();
-        when(itemRepository.findByIdAndListId(item.getId(), list.getId())).thenReturn(Optional.of(item));
+        when(itemRepository.softDeleteByIdAndListId(item.getId(), list.getId())).thenReturn(1);
 
         itemService.deleteItem(list.getId(), item.getId());
 
-        assertTrue(item.isDeleted());
-        verify(itemRepository).save(item);
+        verify(itemRepository).softDeleteByIdAndListId(item.getId(), list.getId());
+        verify(itemRepository).evictItems(list.getId(), List.of(item.getId()));
+        verify(itemRepository, never()).renumber(any(), anyLong());
     }
 
     @Test
@@ -162,7 +595,7 @@ public class ItemServiceTests {
         ListEntity list2 = aList().withId(UUID.randomUUID()).withOwner(user).withTitle("List 2").build();
 
         Item item = anItem().withId(UUID.randomUUID()).withList(list2).build();
-        when(itemRepository.findByIdAndListId(item.getId(), list1.getId())).thenReturn(Optional.empty());
+        when(itemRepository.softDeleteByIdAndListId(item.getId(), list1.getId())).thenReturn(0);
 
         assertThrows(ResourceNotFoundException.class, () -> itemService.deleteItem(list1.getId(), item.getId()));
     }
@@ -173,4 +606,80 @@ public class ItemServiceTests {
         ListEntity list = aList().withId(UUID.randomUUID()).withOwner(user).withTitle("List 1").build();
         assertThrows(ResourceNotFoundException.class, () -> itemService.deleteItem(list.getId(), UUID.randomUUID()));
     }
+
+    @Test
+    void getItems_ShouldReturnNextPosition_WhenMoreItemsFollow() {
+        UUID listId = UUID.randomUUID();
+        ItemSummaryDto first = new ItemSummaryDto(UUID.randomUUID(), "A", null, 10L, null);
+        ItemSummaryDto second = new ItemSummaryDto(UUID.randomUUID(), "B", null, 20L, null);
+        ItemSummaryDto third = new ItemSummaryDto(UUID.randomUUID(), "C", null, 30L, null);
+        when(itemRepository.findWindowByListId(listId, Positions.START, 3)).thenReturn(List.of(first, second, third));
+
+        ItemPageDto result = itemService.getItems(listId, null, 2);
+
+        assertEquals(List.of(first, second), result.items());
+        assertEquals(Long.valueOf(20L), result.nextAfterPosition());
+    }
+
+    @Test
+    void getItems_ShouldContinueAfterPosition_WhenPositionProvided() {
+        UUID listId = UUID.randomUUID();
+        ItemSummaryDto item = new ItemSummaryDto(UUID.randomUUID(), "A", null, 30L, null);
+        when(itemRepository.findWindowByListId(listId, 20L, 101)).thenReturn(List.of(item));
+
+        ItemPageDto result = itemService.getItems(listId, 20L, 100);
+
+        assertEquals(List.of(item), result.items());
+        assertNull(result.nextAfterPosition());
+    }
+
+    @Test
+    void getItems_ShouldThrowException_WhenLimitOutOfRange() {
+        UUID listId = UUID.randomUUID();
+
+        assertThrows(InvalidInputException.class, () -> itemService.getItems(listId, null, 0));
+        assertThrows(InvalidInputException.class,
+            () -> itemService.getItems(listId, null, ItemService.MAX_WINDOW_SIZE + 1));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void getItemFields_ShouldSelectPositionForCursor_WhenNotRequested() {
+        UUID listId = UUID.randomUUID();
+        Map<String, Object> first = new LinkedHashMap<>(Map.of("id", UUID.randomUUID(), "title", "A", "position", 10L));
+        Map<String, Object> second = new LinkedHashMap<>(Map.of("id", UUID.randomUUID(), "title", "B", "position", 20L));
+        when(itemRepository.findFieldsByListId(listId, EnumSet.of(ItemField.TITLE, ItemField.POSITION), Positions.START, 2))
+            .thenReturn(List.of(first, second));
+
+        ItemFieldsPageDto result = itemService.getItemFields(listId, null, 1, "title");
+
+        assertEquals(1, result.items().size());
+        assertEquals(Map.of("id", first.get("id"), "title", "A"), result.items().get(0));
+        assertEquals(Long.valueOf(10L), result.nextAfterPosition());
+    }
+
+    @Test
+    void getItemFields_ShouldKeepPosition_WhenRequested() {
+        UUID listId = UUID.randomUUID();
+        Map<String, Object> item = new LinkedHashMap<>(Map.of("id", UUID.randomUUID(), "position", 30L));
+        when(itemRepository.findFieldsByListId(listId, EnumSet.of(ItemField.POSITION), 20L, 101))
+            .thenReturn(List.of(item));
+
+        ItemFieldsPageDto result = itemService.getItemFields(listId, 20L, 100, "position");
+
+        assertEquals(30L, result.items().get(0).get("position"));
+        assertNull(result.nextAfterPosition());
+    }
+
+    @Test
+    void getItemFields_ShouldThrowException_WhenFieldUnknown() {
+        UUID listId = UUID.randomUUID();
+
+        assertThrows(InvalidInputException.class, () -> itemService.getItemFields(listId, null, 100, "title,secret"));
+        verifyNoInteractions(itemRepository);
+    }
+
+    private static long nth(int index) {
+        return (index + 1) * Positions.GAP;
+    }
 }
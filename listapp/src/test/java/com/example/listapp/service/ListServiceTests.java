@@ -4,35 +4,55 @@ import static com.example.listapp.util.dtos.ListResponseDtoBuilder.aListResponse
 import static com.example.listapp.util.entities.ListTestBuilder.aList;
 import static com.example.listapp.util.entities.UserTestBuilder.aUser;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.example.listapp.dto.item.ItemSummaryDto;
 import com.example.listapp.dto.list.ListCreateDto;
+import com.example.listapp.dto.list.ListDetailRow;
 import com.example.listapp.dto.list.ListResponseDto;
+import com.example.listapp.dto.list.ListSummaryDto;
+import com.example.listapp.dto.list.ListSummaryPageDto;
 import com.example.listapp.dto.list.ListUpdateDto;
 import com.example.listapp.entity.ListEntity;
 import com.example.listapp.entity.User;
 import com.example.listapp.exception.custom.AccessDeniedException;
+import com.example.listapp.exception.custom.InvalidInputException;
 import com.example.listapp.exception.custom.ResourceNotFoundException;
+import com.example.listapp.helper.ETags;
+import com.example.listapp.helper.ItemField;
+import com.example.listapp.helper.ListCursor;
+import com.example.listapp.helper.ListField;
 import com.example.listapp.mapper.ListMapper;
+import com.example.listapp.repository.ItemRepository;
 import com.example.listapp.repository.ListRepository;
 import com.example.listapp.security.SecurityUtil;
+import com.example.listapp.service.security.OwnershipCache;
 
 @ExtendWith(MockitoExtension.class)
 public class ListServiceTests {
@@ -40,6 +60,9 @@ public class ListServiceTests {
     @Mock
     private ListRepository listRepository;
 
+    @Mock
+    private ItemRepository itemRepository;
+
     @InjectMocks
     private ListService listService;
 
@@ -49,120 +72,167 @@ public class ListServiceTests {
     @Mock
     SecurityUtil securityUtil;
 
+    @Mock
+    OwnershipCache ownershipCache;
+
     @AfterEach
     void clearSecurityContext() {
         SecurityContextHolder.clearContext();
     }
 
     @Test
-    void getAllUserLists_ShouldReturnDtoList_WhenUserIsAuthenticated() {
+    void getUserLists_ShouldReturnLastPage_WhenNoMoreListsFollow() {
         User user = aUser().build();
         when(securityUtil.getCurrentUser()).thenReturn(user);
 
-        ListEntity list1 = aList().withOwner(user).withTitle("List 1").build();
-        ListEntity list2 = aList().withOwner(user).withTitle("List 2").build();
-        List<ListEntity> persistedLists = List.of(list1, list2);
+        ListSummaryDto dto1 = new ListSummaryDto(UUID.randomUUID(), "List 1", null, Instant.now(), 3);
+        ListSummaryDto dto2 = new ListSummaryDto(UUID.randomUUID(), "List 2", null, Instant.now(), 0);
+        when(listRepository.findSummariesByOwnerId(user.getId(), 3)).thenReturn(List.of(dto1, dto2));
 
-        when(listRepository.findAllByOwnerId(user.getId())).thenReturn(persistedLists);
-        
-        ListResponseDto dto1 = aListResponseDto().withId(list1.getId()).withTitle("List 1").build();
-        ListResponseDto dto2 = aListResponseDto().withId(list2.getId()).withTitle("List 2").build();
+        ListSummaryPageDto result = listService.getUserLists(null, 2);
+
+        assertEquals(List.of(dto1, dto2), result.items());
+        assertNull(result.nextCursor());
+
+        verify(listRepository).findSummariesByOwnerId(user.getId(), 3);
+        verifyNoInteractions(listMapper);
+    }
 
-        when(listMapper.toResponseDto(list1)).thenReturn(dto1);
-        when(listMapper.toResponseDto(list2)).thenReturn(dto2);
+    @Test
+    void getUserLists_ShouldReturnCursor_WhenMoreListsFollow() {
+        User user = aUser().build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
 
-        List<ListResponseDto> result = listService.getAllUserLists();
+        Instant updatedAt = Instant.parse("2025-01-01T10:00:00.123456Z");
+        ListSummaryDto dto1 = new ListSummaryDto(UUID.randomUUID(), "List 1", null, updatedAt.plusSeconds(1), 3);
+        ListSummaryDto dto2 = new ListSummaryDto(UUID.randomUUID(), "List 2", null, updatedAt, 0);
+        ListSummaryDto dto3 = new ListSummaryDto(UUID.randomUUID(), "List 3", null, updatedAt, 1);
+        when(listRepository.findSummariesByOwnerId(user.getId(), 3)).thenReturn(List.of(dto1, dto2, dto3));
 
-        assertEquals(2, result.size());
-        assertTrue(result.contains(dto1));
-        assertTrue(result.contains(dto2));
+        ListSummaryPageDto result = listService.getUserLists(null, 2);
 
-        verify(listRepository).findAllByOwnerId(user.getId());
-        verify(listMapper).toResponseDto(list1);
-        verify(listMapper).toResponseDto(list2);
+        assertEquals(List.of(dto1, dto2), result.items());
+        assertEquals(new ListCursor(updatedAt, dto2.id()), ListCursor.decode(result.nextCursor()));
     }
 
     @Test
-    void getAllUserLists_ShouldReturnEmpty_WhenUserDiffers() {
-        User user1 = aUser().withId(UUID.randomUUID()).build();
-        User user2 = aUser().withId(UUID.randomUUID()).build();
-        when(securityUtil.getCurrentUser()).thenReturn(user1);
+    void getUserLists_ShouldSeekPastCursor_WhenCursorProvided() {
+        User user = aUser().build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
 
-        aList().withOwner(user2).withTitle("List 1").build();
-        aList().withOwner(user2).withTitle("List 2").build();
+        ListCursor cursor = new ListCursor(Instant.parse("2025-01-01T10:00:00Z"), UUID.randomUUID());
+        ListSummaryDto dto = new ListSummaryDto(UUID.randomUUID(), "List 1", null, Instant.now(), 3);
+        when(listRepository.findSummariesByOwnerIdAfter(user.getId(), cursor.updatedAt(), cursor.id(), 51))
+            .thenReturn(List.of(dto));
 
-        when(listRepository.findAllByOwnerId(user1.getId())).thenReturn(List.of());
+        ListSummaryPageDto result = listService.getUserLists(cursor.encode(), 50);
 
-        List<ListResponseDto> result = listService.getAllUserLists();
+        assertEquals(List.of(dto), result.items());
+        assertNull(result.nextCursor());
+    }
 
-        assertEquals(0, result.size());
+    @Test
+    void getUserLists_ShouldThrowException_WhenCursorInvalid() {
+        User user = aUser().build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
 
-        verify(listRepository).findAllByOwnerId(user1.getId());
-        verifyNoInteractions(listMapper);
+        assertThrows(InvalidInputException.class, () -> listService.getUserLists("not-a-cursor", 50));
+        verifyNoInteractions(listRepository);
     }
 
     @Test
-    void getAllUserLists_ShouldThrowException_WhenNoAuthentication() {
-        User user = aUser().withId(UUID.randomUUID()).build();
-
-        aList().withOwner(user).withTitle("List 1").build();
-        aList().withOwner(user).withTitle("List 2").build();
+    void getUserLists_ShouldThrowException_WhenLimitOutOfRange() {
+        assertThrows(InvalidInputException.class, () -> listService.getUserLists(null, 0));
+        assertThrows(InvalidInputException.class,
+            () -> listService.getUserLists(null, ListService.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(listRepository, securityUtil);
+    }
 
+    @Test
+    void getUserLists_ShouldThrowException_WhenNoAuthentication() {
         when(securityUtil.getCurrentUser())
             .thenThrow(new AccessDeniedException("No authenticated user found"));
 
-        assertThrows(AccessDeniedException.class, () -> listService.getAllUserLists());
+        assertThrows(AccessDeniedException.class, () -> listService.getUserLists(null, 50));
+        verifyNoInteractions(listRepository);
     }
 
     @Test
-    void getListById_ShouldReturnDto_WhenUserIsAuthenticated() {
+    void getListById_ShouldReturnDto_FromSingleQuery() {
         User user = aUser().withId(UUID.randomUUID()).build();
         when(securityUtil.getCurrentUser()).thenReturn(user);
 
-        ListEntity list = aList().withId(UUID.randomUUID()).withOwner(user).withTitle("List 1").build();
-        when(listRepository.findById(list.getId())).thenReturn(Optional.of(list));
-        
-        ListResponseDto dto = aListResponseDto().withId(list.getId()).withTitle("List 1").build();
-        when(listMapper.toResponseDto(list)).thenReturn(dto);
+        UUID listId = UUID.randomUUID();
+        List<ListDetailRow> rows = List.of(headerRow(listId, user), itemRow(UUID.randomUUID(), 1L));
+        when(listRepository.findDetailByIdAndOwnerId(listId, user.getId())).thenReturn(rows);
 
-        ListResponseDto result = listService.getListById(list.getId());
+        ListResponseDto dto = aListResponseDto().withId(listId).withTitle("List 1").build();
+        when(listMapper.toResponseDto(rows)).thenReturn(dto);
 
-        assertNotNull(result);
-        verify(listRepository).findById(list.getId());
-        verify(listMapper).toResponseDto(list);
+        ListResponseDto result = listService.getListById(listId);
+
+        assertEquals(dto, result);
+        verify(listRepository).findDetailByIdAndOwnerId(listId, user.getId());
+        verifyNoInteractions(itemRepository);
     }
 
     @Test
-    void getListById_ShouldThrowException_WhenUserDiffers() {
+    void getListById_ShouldThrowNotFound_WhenUserDiffers() {
         User user1 = aUser().withId(UUID.randomUUID()).build();
         User user2 = aUser().withId(UUID.randomUUID()).build();
         when(securityUtil.getCurrentUser()).thenReturn(user1);
 
-        ListEntity list = aList().withOwner(user2).withTitle("List 1").build();
-        when(listRepository.findById(list.getId())).thenReturn(Optional.of(list));
+        ListEntity list = aList().withId(UUID.randomUUID()).withOwner(user2).withTitle("List 1").build();
+        when(listRepository.findDetailByIdAndOwnerId(list.getId(), user1.getId())).thenReturn(List.of());
 
-        assertThrows(AccessDeniedException.class, () -> listService.getListById(list.getId()));
+        assertThrows(ResourceNotFoundException.class, () -> listService.getListById(list.getId()));
+        verifyNoInteractions(listMapper, itemRepository);
     }
 
     @Test
     void getListById_ShouldThrowException_WhenListNotFound() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
         UUID nonExistentId = UUID.randomUUID();
-        when(listRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+        when(listRepository.findDetailByIdAndOwnerId(nonExistentId, user.getId())).thenReturn(List.of());
 
         assertThrows(ResourceNotFoundException.class, () -> listService.getListById(nonExistentId));
-        verify(listRepository).findById(nonExistentId);
+        verify(listRepository).findDetailByIdAndOwnerId(nonExistentId, user.getId());
     }
 
     @Test
-    void getListById_ShouldThrowException_WhenNoAuth() {
+    void toResponseDto_ShouldKeepRowOrder_OfItems() {
         User user = aUser().withId(UUID.randomUUID()).build();
+        UUID listId = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        List<ListDetailRow> rows = List.of(headerRow(listId, user), itemRow(first, 1L), itemRow(second, 2L));
+
+        ListResponseDto result = Mappers.getMapper(ListMapper.class).toResponseDto(rows);
+
+        assertEquals(listId, result.id());
+        assertEquals(user.getId(), result.owner().id());
+        assertEquals(List.of(first, second), result.items().stream().map(ItemSummaryDto::id).toList());
+    }
+
+    @Test
+    void toResponseDto_ShouldReturnNoItems_WhenOnlyListRowIsPresent() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        UUID listId = UUID.randomUUID();
+
+        ListResponseDto result = Mappers.getMapper(ListMapper.class)
+            .toResponseDto(List.of(headerRow(listId, user)));
+
+        assertTrue(result.items().isEmpty());
+    }
+
+    @Test
+    void getListById_ShouldThrowException_WhenNoAuth() {
         when(securityUtil.getCurrentUser())
             .thenThrow(new AccessDeniedException("No authenticated user found"));
 
-        ListEntity list = aList().withOwner(user).withTitle("List 1").build();
-        when(listRepository.findById(list.getId())).thenReturn(Optional.of(list));
-
-        assertThrows(AccessDeniedException.class, () -> listService.getListById(list.getId()));
+        assertThrows(AccessDeniedException.class, () -> listService.getListById(UUID.randomUUID()));
+        verifyNoInteractions(listRepository);
     }
 
     @Test
@@ -254,6 +324,17 @@ public class ListServiceTests {
         assertThrows(ResourceNotFoundException.class, () -> listService.updateList(UUID.randomUUID(), dto));
     }
 
+    @Test
+    void updateList_ShouldThrowException_WhenCachedListIsDeleted() {
+        ListEntity list = aList().withId(UUID.randomUUID()).withTitle("List 1").build();
+        list.markAsDeleted();
+        when(listRepository.findById(list.getId())).thenReturn(Optional.of(list));
+        ListUpdateDto dto = new ListUpdateDto(Optional.of("UpdatedTitle"), Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> listService.updateList(list.getId(), dto));
+        verify(listRepository, never()).save(any());
+    }
+
     @Test
     void updateList_ShouldThrowException_WhenNoAuthentication() {
         User user = aUser().withId(UUID.randomUUID()).build();
@@ -279,6 +360,7 @@ public class ListServiceTests {
 
         assertTrue(list.isDeleted());
         verify(listRepository).save(list);
+        verify(ownershipCache).invalidateAfterCommit(user.getId(), list.getId());
     }
 
     @Test
@@ -310,4 +392,130 @@ public class ListServiceTests {
 
         assertThrows(AccessDeniedException.class, () -> listService.deleteList(list.getId()));
     }
+
+    @Test
+    void getListHeaderById_ShouldReturnDto_WhenUserIsAuthenticated() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
+
+        ListEntity list = aList().withId(UUID.randomUUID()).withOwner(user).withTitle("List 1").build();
+        when(listRepository.findHeaderByIdAndOwnerId(list.getId(), user.getId())).thenReturn(Optional.of(list));
+
+        ListResponseDto dto = aListResponseDto().withId(list.getId()).withTitle("List 1").build();
+        when(listMapper.toHeaderDto(list)).thenReturn(dto);
+
+        ListResponseDto result = listService.getListHeaderById(list.getId());
+
+        assertEquals(dto, result);
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void getListHeaderById_ShouldThrowNotFound_WhenUserDiffers() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
+        UUID listId = UUID.randomUUID();
+        when(listRepository.findHeaderByIdAndOwnerId(listId, user.getId())).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> listService.getListHeaderById(listId));
+        verifyNoInteractions(listMapper);
+    }
+
+    @Test
+    void getListFieldsById_ShouldSelectRequestedListAndItemFields() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
+        UUID listId = UUID.randomUUID();
+        Map<String, Object> list = new LinkedHashMap<>(Map.of("id", listId, "title", "List 1"));
+        when(listRepository.findFieldsByIdAndOwnerId(listId, user.getId(), EnumSet.of(ListField.TITLE)))
+            .thenReturn(Optional.of(list));
+        List<Map<String, Object>> items = List.of(Map.of("id", UUID.randomUUID(), "title", "A"));
+        when(itemRepository.findFieldsByListId(listId, EnumSet.of(ItemField.TITLE))).thenReturn(items);
+
+        Map<String, Object> result = listService.getListFieldsById(listId, "title, items.title");
+
+        assertEquals("List 1", result.get("title"));
+        assertEquals(items, result.get("items"));
+    }
+
+    @Test
+    void getListFieldsById_ShouldNotReadItems_WhenNotRequested() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
+        UUID listId = UUID.randomUUID();
+        when(listRepository.findFieldsByIdAndOwnerId(listId, user.getId(), EnumSet.of(ListField.OWNER)))
+            .thenReturn(Optional.of(new LinkedHashMap<>(Map.of("id", listId))));
+
+        Map<String, Object> result = listService.getListFieldsById(listId, "owner");
+
+        assertNull(result.get("items"));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void getListFieldsById_ShouldThrowNotFound_WhenUserDiffers() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
+        UUID listId = UUID.randomUUID();
+        when(listRepository.findFieldsByIdAndOwnerId(listId, user.getId(), EnumSet.of(ListField.TITLE)))
+            .thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> listService.getListFieldsById(listId, "title,items"));
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void getListFieldsById_ShouldThrowException_WhenFieldUnknown() {
+        UUID listId = UUID.randomUUID();
+
+        assertThrows(InvalidInputException.class, () -> listService.getListFieldsById(listId, "items.secret"));
+        verifyNoInteractions(listRepository, itemRepository);
+    }
+
+    @Test
+    void getListETag_ShouldReturnStrongTag_WhenUserIsOwner() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
+        UUID listId = UUID.randomUUID();
+        when(listRepository.findVersionStampByIdAndOwnerId(listId, user.getId())).thenReturn(Optional.of("1:0:2"));
+
+        String result = listService.getListETag(listId);
+
+        assertEquals(ETags.strong("1:0:2"), result);
+        assertTrue(result.startsWith("\""));
+        verify(listRepository, never()).findHeaderByIdAndOwnerId(any(), any());
+    }
+
+    @Test
+    void getListETag_ShouldThrowNotFound_WhenUserDiffers() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
+        UUID listId = UUID.randomUUID();
+        when(listRepository.findVersionStampByIdAndOwnerId(listId, user.getId())).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> listService.getListETag(listId));
+    }
+
+    @Test
+    void getUserListsETag_ShouldReturnWeakTagPerPage() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
+        when(listRepository.findVersionStampByOwnerId(user.getId())).thenReturn("2:x");
+
+        String first = listService.getUserListsETag(null, 50);
+        String second = listService.getUserListsETag("cursor", 50);
+
+        assertTrue(first.startsWith("W/\""));
+        assertNotEquals(first, second);
+    }
+
+    private static ListDetailRow headerRow(UUID listId, User owner) {
+        return new ListDetailRow(listId, "List 1", null, Instant.now(), Instant.now(), 0L,
+            owner.getId(), owner.getName(), null, null, null, null, null);
+    }
+
+    private static ListDetailRow itemRow(UUID itemId, Long position) {
+        return new ListDetailRow(null, null, null, null, null, null, null, null,
+            itemId, "Item", null, position, null);
+    }
 }
@@ -0,0 +1,79 @@
+package com.example.listapp.service;
+
+import static com.example.listapp.util.dtos.ListResponseDtoBuilder.aListResponseDto;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.listapp.dto.item.ItemSummaryDto;
+import com.example.listapp.dto.list.ListResponseDto;
+import com.example.listapp.repository.ItemRepository;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+public class ListStreamServiceTests {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private ListStreamService listStreamService;
+
+    @BeforeEach
+    void setUp() {
+        listStreamService = new ListStreamService(itemRepository, jsonMapper);
+    }
+
+    @Test
+    void writeList_ShouldWriteHeaderAndItemsInOrder() {
+        ListResponseDto header = aListResponseDto().withId(UUID.randomUUID()).withTitle("List 1").build();
+        ItemSummaryDto first = new ItemSummaryDto(UUID.randomUUID(), "A", "Notes", 10L, null);
+        ItemSummaryDto second = new ItemSummaryDto(UUID.randomUUID(), "B", null, 20L, null);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(itemRepository.streamSummariesByListId(header.id()))
+            .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        listStreamService.writeList(header, out);
+
+        JsonNode result = jsonMapper.readTree(out.toString(StandardCharsets.UTF_8));
+        JsonNode expectedHeader = jsonMapper.valueToTree(header);
+        assertEquals(expectedHeader.get("id"), result.get("id"));
+        assertEquals(expectedHeader.get("owner"), result.get("owner"));
+        assertEquals(expectedHeader.get("updatedAt"), result.get("updatedAt"));
+        assertEquals("List 1", result.get("title").asString());
+        assertEquals(2, result.get("items").size());
+        assertEquals(first.id().toString(), result.get("items").get(0).get("id").asString());
+        assertEquals(second.id().toString(), result.get("items").get(1).get("id").asString());
+        assertEquals(20L, result.get("items").get(1).get("position").asLong());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void writeList_ShouldWriteEmptyItems_WhenListHasNoItems() {
+        ListResponseDto header = aListResponseDto().withId(UUID.randomUUID()).build();
+        when(itemRepository.streamSummariesByListId(header.id())).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        listStreamService.writeList(header, out);
+
+        JsonNode result = jsonMapper.readTree(out.toString(StandardCharsets.UTF_8));
+        assertTrue(result.get("items").isArray());
+        assertEquals(0, result.get("items").size());
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.listapp.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import com.example.listapp.dto.item.ItemReorderDto;
+import com.example.listapp.exception.custom.InvalidInputException;
+import com.example.listapp.helper.PackedUuids;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class ReorderCoalescerTests {
+
+    @Mock
+    private ItemService itemService;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void submit_ShouldApplyReorderRightAway_WhenAlone() {
+        ReorderCoalescer coalescer = new ReorderCoalescer(itemService, meterRegistry, Duration.ofSeconds(10));
+        UUID listId = UUID.randomUUID();
+        ItemReorderDto dto = new ItemReorderDto(List.of(UUID.randomUUID()));
+        long start = System.nanoTime();
+
+        coalescer.submit(listId, dto);
+
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos());
+        verify(itemService).reorderItems(eq(listId), aryEq(PackedUuids.pack(dto.itemOrder())));
+        assertEquals(1.0, meterRegistry.counter("listapp.items.reorder.submitted").count(), 0.0);
+        assertEquals(0.0, meterRegistry.counter("listapp.items.reorder.absorbed").count(), 0.0);
+    }
+
+    @Test
+    void submit_ShouldRethrowFailure_OfAppliedReorder() {
+        ReorderCoalescer coalescer = new ReorderCoalescer(itemService, meterRegistry, Duration.ZERO);
+        UUID listId = UUID.randomUUID();
+        ItemReorderDto dto = new ItemReorderDto(List.of(UUID.randomUUID()));
+        doThrow(new InvalidInputException("mismatch")).when(itemService).reorderItems(eq(listId), any(byte[].class));
+
+        assertThrows(InvalidInputException.class, () -> coalescer.submit(listId, dto));
+    }
+
+    @Test
+    void submit_ShouldApplyOnlyLatestReorder_WhenBurstDuringWrite() throws Exception {
+        ReorderCoalescer coalescer = new ReorderCoalescer(itemService, meterRegistry, Duration.ofMillis(50));
+        UUID listId = UUID.randomUUID();
+        ItemReorderDto first = new ItemReorderDto(List.of(UUID.randomUUID()));
+        ItemReorderDto second = new ItemReorderDto(List.of(UUID.randomUUID()));
+        ItemReorderDto third = new ItemReorderDto(List.of(UUID.randomUUID()));
+        doAnswer(slowWrite()).when(itemService).reorderItems(eq(listId), aryEq(PackedUuids.pack(first.itemOrder())));
+
+        CompletableFuture<Void> call1 = CompletableFuture.runAsync(() -> coalescer.submit(listId, first));
+        Thread.sleep(100);
+        CompletableFuture<Void> call2 = CompletableFuture.runAsync(() -> coalescer.submit(listId, second));
+        Thread.sleep(100);
+        CompletableFuture<Void> call3 = CompletableFuture.runAsync(() -> coalescer.submit(listId, third));
+        CompletableFuture.allOf(call1, call2, call3).join();
+
+        verify(itemService, times(2)).reorderItems(eq(listId), any(byte[].class));
+        verify(itemService).reorderItems(eq(listId), aryEq(PackedUuids.pack(first.itemOrder())));
+        verify(itemService).reorderItems(eq(listId), aryEq(PackedUuids.pack(third.itemOrder())));
+        assertEquals(3.0, meterRegistry.counter("listapp.items.reorder.submitted").count(), 0.0);
+        assertEquals(1.0, meterRegistry.counter("listapp.items.reorder.absorbed").count(), 0.0);
+    }
+
+    @Test
+    void submit_ShouldOnlyFailInvalidReorder_AndApplyOlderOne() throws Exception {
+        ReorderCoalescer coalescer = new ReorderCoalescer(itemService, meterRegistry, Duration.ZERO);
+        UUID listId = UUID.randomUUID();
+        ItemReorderDto first = new ItemReorderDto(List.of(UUID.randomUUID()));
+        ItemReorderDto valid = new ItemReorderDto(List.of(UUID.randomUUID()));
+        ItemReorderDto invalid = new ItemReorderDto(List.of(UUID.randomUUID()));
+        doAnswer(slowWrite()).when(itemService).reorderItems(eq(listId), aryEq(PackedUuids.pack(first.itemOrder())));
+        doThrow(new InvalidInputException("mismatch"))
+            .when(itemService).reorderItems(eq(listId), aryEq(PackedUuids.pack(invalid.itemOrder())));
+
+        CompletableFuture<Void> call1 = CompletableFuture.runAsync(() -> coalescer.submit(listId, first));
+        Thread.sleep(100);
+        CompletableFuture<Void> call2 = CompletableFuture.runAsync(() -> coalescer.submit(listId, valid));
+        Thread.sleep(100);
+        CompletableFuture<Void> call3 = CompletableFuture.runAsync(() -> coalescer.submit(listId, invalid));
+
+        call1.join();
+        call2.join();
+        CompletionException failure = assertThrows(CompletionException.class, call3::join);
+        assertTrue(failure.getCause() instanceof InvalidInputException);
+        verify(itemService).reorderItems(eq(listId), aryEq(PackedUuids.pack(valid.itemOrder())));
+    }
+
+    @Test
+    void submit_ShouldNotCoalesce_DifferentLists() throws Exception {
+        ReorderCoalescer coalescer = new ReorderCoalescer(itemService, meterRegistry, Duration.ofMillis(200));
+        UUID list1 = UUID.randomUUID();
+        UUID list2 = UUID.randomUUID();
+        ItemReorderDto dto1 = new ItemReorderDto(List.of(UUID.randomUUID()));
+        ItemReorderDto dto2 = new ItemReorderDto(List.of(UUID.randomUUID()));
+
+        CompletableFuture<Void> call1 = CompletableFuture.runAsync(() -> coalescer.submit(list1, dto1));
+        CompletableFuture<Void> call2 = CompletableFuture.runAsync(() -> coalescer.submit(list2, dto2));
+        CompletableFuture.allOf(call1, call2).join();
+
+        verify(itemService).reorderItems(eq(list1), aryEq(PackedUuids.pack(dto1.itemOrder())));
+        verify(itemService).reorderItems(eq(list2), aryEq(PackedUuids.pack(dto2.itemOrder())));
+    }
+
+    private static Answer<Void> slowWrite() {
+        return invocation -> {
+            Thread.sleep(400);
+            return null;
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.listapp.service;
+
+import static com.example.listapp.util.entities.UserTestBuilder.aUser;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.listapp.dto.sync.ItemChangeDto;
+import com.example.listapp.dto.sync.ListChangeDto;
+import com.example.listapp.dto.sync.SyncDto;
+import com.example.listapp.entity.User;
+import com.example.listapp.exception.custom.InvalidInputException;
+import com.example.listapp.helper.SyncCursor;
+import com.example.listapp.repository.ItemRepository;
+import com.example.listapp.repository.ListRepository;
+import com.example.listapp.security.SecurityUtil;
+
+@ExtendWith(MockitoExtension.class)
+public class SyncServiceTests {
+
+    @Mock
+    private ListRepository listRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private SecurityUtil securityUtil;
+
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new SyncService(listRepository, itemRepository, securityUtil, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void getChanges_ShouldStartAtBeginning_WhenNoCursorGiven() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
+        when(listRepository.findChangesByOwnerId(eq(user.getId()), eq(Instant.EPOCH), eq(new UUID(0, 0)), any(), eq(3)))
+            .thenReturn(List.of());
+        when(itemRepository.findChangesByOwnerId(eq(user.getId()), eq(Instant.EPOCH), eq(new UUID(0, 0)), any(), eq(3)))
+            .thenReturn(List.of());
+
+        SyncDto result = syncService.getChanges(null, 2);
+
+        assertTrue(result.lists().isEmpty());
+        assertTrue(result.items().isEmpty());
+        assertFalse(result.hasMore());
+        assertEquals(SyncCursor.START, SyncCursor.decode(result.nextCursor()));
+    }
+
+    @Test
+    void getChanges_ShouldAdvanceCursor_PastReturnedChanges() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
+        Instant since = Instant.parse("2025-01-01T00:00:00Z");
+        SyncCursor cursor = new SyncCursor(since, UUID.randomUUID(), since, UUID.randomUUID());
+        ListChangeDto list = new ListChangeDto(UUID.randomUUID(), "List", null, since.plusSeconds(1), 1L, true);
+        ItemChangeDto item1 = anItemChange(since.plusSeconds(1));
+        ItemChangeDto item2 = anItemChange(since.plusSeconds(2));
+        ItemChangeDto item3 = anItemChange(since.plusSeconds(3));
+        when(listRepository.findChangesByOwnerId(eq(user.getId()), eq(since), eq(cursor.listId()), any(), eq(3)))
+            .thenReturn(List.of(list));
+        when(itemRepository.findChangesByOwnerId(eq(user.getId()), eq(since), eq(cursor.itemId()), any(), eq(3)))
+            .thenReturn(List.of(item1, item2, item3));
+
+        SyncDto result = syncService.getChanges(cursor.encode(), 2);
+
+        assertEquals(List.of(list), result.lists());
+        assertEquals(List.of(item1, item2), result.items());
+        assertTrue(result.hasMore());
+        assertEquals(
+            new SyncCursor(list.updatedAt(), list.id(), item2.updatedAt(), item2.id()),
+            SyncCursor.decode(result.nextCursor()));
+    }
+
+    @Test
+    void getChanges_ShouldHoldBackUnsettledChanges() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
+        when(listRepository.findChangesByOwnerId(any(), any(), any(), eq(Duration.ofSeconds(5)), eq(2)))
+            .thenReturn(List.of());
+        when(itemRepository.findChangesByOwnerId(any(), any(), any(), eq(Duration.ofSeconds(5)), eq(2)))
+            .thenReturn(List.of());
+
+        SyncDto result = syncService.getChanges(null, 1);
+
+        assertFalse(result.hasMore());
+    }
+
+    @Test
+    void getChanges_ShouldThrow_WhenLimitOutOfRange() {
+        assertThrows(InvalidInputException.class, () -> syncService.getChanges(null, 0));
+        assertThrows(InvalidInputException.class,
+            () -> syncService.getChanges(null, SyncService.MAX_BATCH_SIZE + 1));
+
+        verifyNoInteractions(listRepository, itemRepository);
+    }
+
+    @Test
+    void getChanges_ShouldThrow_WhenCursorIsInvalid() {
+        assertThrows(InvalidInputException.class, () -> syncService.getChanges("broken", 10));
+
+        verifyNoInteractions(listRepository, itemRepository);
+    }
+
+    private static ItemChangeDto anItemChange(Instant updatedAt) {
+        return new ItemChangeDto(UUID.randomUUID(), UUID.randomUUID(), "Item", null, 65536L, null, updatedAt, 1L, false);
+    }
+}
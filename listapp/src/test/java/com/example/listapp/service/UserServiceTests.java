@@ -8,24 +8,32 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.example.listapp.dto.list.ListSummaryDto;
+import com.example.listapp.dto.user.UserListRow;
 import com.example.listapp.dto.user.UserResponseDto;
 import com.example.listapp.dto.user.UserUpdateDto;
 import com.example.listapp.entity.User;
 import com.example.listapp.exception.custom.AccessDeniedException;
+import com.example.listapp.exception.custom.ResourceNotFoundException;
+import com.example.listapp.helper.ETags;
 import com.example.listapp.mapper.UserMapper;
 import com.example.listapp.repository.UserRepository;
 import com.example.listapp.security.SecurityUtil;
+import com.example.listapp.service.security.OwnershipCache;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceTests {
@@ -42,6 +50,9 @@ public class UserServiceTests {
     @Mock
     SecurityUtil securityUtil;
 
+    @Mock
+    OwnershipCache ownershipCache;
+
     @AfterEach
     void clearSecurityContext() {
         SecurityContextHolder.clearContext();
@@ -52,15 +63,45 @@ public class UserServiceTests {
         User user = aUser().build();
         UserResponseDto dto = aUserResponseDto()
             .withId(user.getId()).withName(user.getName()).withEmail(user.getEmail()).withCreatedAt(user.getCreatedAt()).withUpdatedAt(user.getUpdatedAt()).build();
+        List<UserListRow> rows = List.of(new UserListRow(
+            user.getId(), user.getName(), user.getEmail(), user.getCreatedAt(), user.getUpdatedAt(), 0L,
+            null, null, null, null, 0));
 
         when(securityUtil.getCurrentUser()).thenReturn(user);
-        when(userMapper.toResponseDto(user)).thenReturn(dto);
+        when(userRepository.findWithListSummariesById(user.getId())).thenReturn(rows);
+        when(userMapper.toResponseDto(rows)).thenReturn(dto);
 
         UserResponseDto result = userService.getUser();
 
         assertEquals(dto, result);
-        verify(userMapper).toResponseDto(user);
-        verifyNoInteractions(userRepository);
+        verify(userMapper).toResponseDto(rows);
+    }
+
+    @Test
+    void toResponseDto_shouldKeepRowOrder_ofListSummaries() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        Instant updatedAt = Instant.now();
+        UUID newest = UUID.randomUUID();
+        UUID older = UUID.randomUUID();
+        List<UserListRow> rows = List.of(
+            new UserListRow(user.getId(), user.getName(), user.getEmail(), user.getCreatedAt(), user.getUpdatedAt(), 0L,
+                newest, "Newest", null, updatedAt, 2),
+            new UserListRow(user.getId(), user.getName(), user.getEmail(), user.getCreatedAt(), user.getUpdatedAt(), 0L,
+                older, "Older", null, updatedAt.minusSeconds(60), 0));
+
+        UserResponseDto result = Mappers.getMapper(UserMapper.class).toResponseDto(rows);
+
+        assertEquals(List.of(newest, older), result.lists().stream().map(ListSummaryDto::id).toList());
+    }
+
+    @Test
+    void getUser_shouldThrowException_whenUserNoLongerExists() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
+        when(userRepository.findWithListSummariesById(user.getId())).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> userService.getUser());
+        verifyNoInteractions(userMapper);
     }
 
     @Test
@@ -121,6 +162,7 @@ public class UserServiceTests {
         userService.deleteUser();
 
         verify(userRepository).delete(user);
+        verify(ownershipCache).invalidateUserAfterCommit(user.getId());
         verifyNoInteractions(userMapper);
     }
 
@@ -131,4 +173,14 @@ public class UserServiceTests {
 
         assertThrows(AccessDeniedException.class, () -> userService.deleteUser());
     }
+
+    @Test
+    void getUserETag_shouldReturnStrongTag_whenUserIsAuthenticated() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
+        when(userRepository.findVersionStampById(user.getId())).thenReturn(Optional.of("3:1"));
+
+        assertEquals(ETags.strong("3:1"), userService.getUserETag());
+        verifyNoInteractions(userMapper);
+    }
 }
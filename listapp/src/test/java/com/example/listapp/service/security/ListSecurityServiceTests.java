@@ -5,9 +5,12 @@ import static com.example.listapp.util.entities.UserTestBuilder.aUser;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.AfterEach;
@@ -36,6 +39,9 @@ public class ListSecurityServiceTests {
     @Mock
     private SecurityUtil securityUtil;
 
+    @Mock
+    private OwnershipCache ownershipCache;
+
     @AfterEach
     void clearSecurityContext() {
         SecurityContextHolder.clearContext();
@@ -47,11 +53,25 @@ public class ListSecurityServiceTests {
         when(securityUtil.getCurrentUser()).thenReturn(user);
 
         ListEntity list = aList().withId(UUID.randomUUID()).withOwner(user).withTitle("List 1").build();
-        when(listRepository.findByIdAndOwnerId(list.getId(), user.getId())).thenReturn(Optional.of(list));
+        when(listRepository.existsByIdAndOwnerId(list.getId(), user.getId())).thenReturn(true);
 
         boolean result = listSecurityService.isOwner(list.getId());
 
         assertTrue(result);
+        verify(ownershipCache).put(user.getId(), list.getId());
+    }
+
+    @Test
+    void isOwner_ReturnsTrue_WithoutQuery_IfOwnershipIsCached() {
+        User user = aUser().withId(UUID.randomUUID()).build();
+        when(securityUtil.getCurrentUser()).thenReturn(user);
+        UUID listId = UUID.randomUUID();
+        when(ownershipCache.isOwner(user.getId(), listId)).thenReturn(true);
+
+        boolean result = listSecurityService.isOwner(listId);
+
+        assertTrue(result);
+        verifyNoInteractions(listRepository);
     }
 
     @Test
@@ -61,11 +81,12 @@ public class ListSecurityServiceTests {
         when(securityUtil.getCurrentUser()).thenReturn(user1);
 
         ListEntity list = aList().withId(UUID.randomUUID()).withOwner(user2).withTitle("List 1").build();
-        when(listRepository.findByIdAndOwnerId(list.getId(), user1.getId())).thenReturn(Optional.empty());
+        when(listRepository.existsByIdAndOwnerId(list.getId(), user1.getId())).thenReturn(false);
 
         boolean result = listSecurityService.isOwner(list.getId());
 
         assertFalse(result);
+        verify(ownershipCache, never()).put(any(), any());
     }
 
     @Test
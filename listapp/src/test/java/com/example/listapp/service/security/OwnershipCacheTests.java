@@ -0,0 +1,138 @@
+package com.example.listapp.service.security;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class OwnershipCacheTests {
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void isOwner_ShouldHit_AfterPut() {
+        OwnershipCache cache = new OwnershipCache(meterRegistry, 16, Duration.ofMinutes(1));
+        UUID userId = UUID.randomUUID();
+        UUID listId = UUID.randomUUID();
+
+        assertFalse(cache.isOwner(userId, listId));
+        cache.put(userId, listId);
+
+        assertTrue(cache.isOwner(userId, listId));
+        assertFalse(cache.isOwner(UUID.randomUUID(), listId));
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").counter().count(), 0.0);
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("result", "miss").counter().count(), 0.0);
+    }
+
+    @Test
+    void isOwner_ShouldMiss_WhenEntryExpired() {
+        OwnershipCache cache = new OwnershipCache(meterRegistry, 16, Duration.ZERO);
+        UUID userId = UUID.randomUUID();
+        UUID listId = UUID.randomUUID();
+
+        cache.put(userId, listId);
+
+        assertFalse(cache.isOwner(userId, listId));
+    }
+
+    @Test
+    void isOwner_ShouldStayBounded_WhenSlotsAreReused() {
+        OwnershipCache cache = new OwnershipCache(meterRegistry, 1, Duration.ofMinutes(1));
+        UUID userId = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        cache.put(userId, first);
+        cache.put(userId, second);
+
+        assertFalse(cache.isOwner(userId, first));
+        assertTrue(cache.isOwner(userId, second));
+    }
+
+    @Test
+    void invalidate_ShouldForgetList() {
+        OwnershipCache cache = new OwnershipCache(meterRegistry, 16, Duration.ofMinutes(1));
+        UUID userId = UUID.randomUUID();
+        UUID listId = UUID.randomUUID();
+        cache.put(userId, listId);
+
+        cache.invalidate(userId, listId);
+
+        assertFalse(cache.isOwner(userId, listId));
+    }
+
+    @Test
+    void invalidateAfterCommit_ShouldKeepList_UntilTransactionCommits() {
+        OwnershipCache cache = new OwnershipCache(meterRegistry, 16, Duration.ofMinutes(1));
+        UUID userId = UUID.randomUUID();
+        UUID listId = UUID.randomUUID();
+        cache.put(userId, listId);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateAfterCommit(userId, listId);
+            cache.put(userId, listId);
+
+            assertTrue(cache.isOwner(userId, listId));
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(cache.isOwner(userId, listId));
+    }
+
+    @Test
+    void invalidateAfterCommit_ShouldForgetList_WithoutTransaction() {
+        OwnershipCache cache = new OwnershipCache(meterRegistry, 16, Duration.ofMinutes(1));
+        UUID userId = UUID.randomUUID();
+        UUID listId = UUID.randomUUID();
+        cache.put(userId, listId);
+
+        cache.invalidateAfterCommit(userId, listId);
+
+        assertFalse(cache.isOwner(userId, listId));
+    }
+
+    @Test
+    void invalidateUser_ShouldForgetAllListsOfUser_Only() {
+        OwnershipCache cache = new OwnershipCache(meterRegistry, 1024, Duration.ofMinutes(1));
+        UUID userId = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        UUID list1 = UUID.randomUUID();
+        UUID list2 = UUID.randomUUID();
+        UUID otherList = UUID.randomUUID();
+        cache.put(userId, list1);
+        cache.put(userId, list2);
+        cache.put(otherId, otherList);
+
+        cache.invalidateUser(userId);
+
+        assertFalse(cache.isOwner(userId, list1));
+        assertFalse(cache.isOwner(userId, list2));
+        assertTrue(cache.isOwner(otherId, otherList));
+    }
+
+    @Test
+    void constructor_ShouldReject_NonPositiveSize() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new OwnershipCache(meterRegistry, 0, Duration.ofMinutes(1)));
+    }
+}
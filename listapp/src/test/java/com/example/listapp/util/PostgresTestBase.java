@@ -0,0 +1,60 @@
+package com.example.listapp.util;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Base for tests running the PostgreSQL-only statements and migrations
+ * against a real database. A single container is started for all test
+ * classes and migrated once.
+ *
+ * Without Docker the tests are skipped, unless LISTAPP_REQUIRE_DOCKER is
+ * set to true, as it is on CI. There a missing Docker fails the build
+ * instead of silently skipping the tests.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public abstract class PostgresTestBase {
+
+    public static final String ENABLED = "com.example.listapp.util.PostgresTestBase#isEnabled";
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static boolean migrated;
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getenv("LISTAPP_REQUIRE_DOCKER"))
+            || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        startAndMigrate();
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+    }
+
+    private static synchronized void startAndMigrate() {
+        if (migrated) {
+            return;
+        }
+        POSTGRES.start();
+        Flyway.configure()
+            .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+        migrated = true;
+    }
+}
@@ -10,7 +10,7 @@ public class ItemResponseDtoBuilder {
     private String title = "Test Items";
     private String notes = "Test Notes";
     private String imagePath = null;
-    private Integer position = 0;
+    private Long position = 0L;
     private Instant createdAt = Instant.now();
     private Instant updatedAt = Instant.now();
     private Long version = 0L;
@@ -34,7 +34,7 @@ public class ItemResponseDtoBuilder {
         return this;
     }
     
-    public ItemResponseDtoBuilder withPosition(Integer position) {
+    public ItemResponseDtoBuilder withPosition(Long position) {
         this.position = position;
         return this;
     }
@@ -1,8 +1,8 @@
 package com.example.listapp.util.dtos;
 
 import java.time.Instant;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import com.example.listapp.dto.item.ItemSummaryDto;
@@ -17,7 +17,7 @@ public class ListResponseDtoBuilder {
     private Instant updatedAt = Instant.now();
     private Long version = 0L;
     private UserSummaryDto owner = new UserSummaryDto(UUID.randomUUID(), "Test User");
-    private Set<ItemSummaryDto> items = Set.of();
+    private List<ItemSummaryDto> items = List.of();
 
     public static ListResponseDtoBuilder aListResponseDto() {
         return new ListResponseDtoBuilder();
@@ -53,14 +53,14 @@ public class ListResponseDtoBuilder {
         return this;
     }
 
-    public ListResponseDtoBuilder withItems(Set<ItemSummaryDto> items) {
+    public ListResponseDtoBuilder withItems(List<ItemSummaryDto> items) {
         this.items = items;
         return this;
     }
 
     public ListResponseDtoBuilder withItem(ItemSummaryDto item) {
         if (this.items.isEmpty()) {
-            this.items = new HashSet<>();
+            this.items = new ArrayList<>();
         }
         this.items.add(item);
         return this;
@@ -1,7 +1,7 @@
 package com.example.listapp.util.dtos;
 
 import java.time.Instant;
-import java.util.Set;
+import java.util.List;
 import java.util.UUID;
 
 import com.example.listapp.dto.list.ListSummaryDto;
@@ -14,7 +14,7 @@ public class UserResponseDtoBuilder {
     private Instant createdAt = Instant.now();
     private Instant updatedAt = Instant.now();
     private Long version = 0L;
-    private Set<ListSummaryDto> lists = Set.of();
+    private List<ListSummaryDto> lists = List.of();
 
     public static UserResponseDtoBuilder aUserResponseDto() {
         return new UserResponseDtoBuilder();
@@ -10,7 +10,7 @@ import com.example.listapp.entity.ListEntity;
 public class ItemTestBuilder {
     private UUID id;
     private ListEntity list = aList().build();
-    private int position = 0;
+    private long position = 0;
     private String title = "Test item";
     private String notes = "Test notes";
     private String imagePath = null;
@@ -30,7 +30,7 @@ public class ItemTestBuilder {
         return this;
     }
 
-    public ItemTestBuilder withPosition(int position) {
+    public ItemTestBuilder withPosition(long position) {
         this.position = position;
         return this;
     }